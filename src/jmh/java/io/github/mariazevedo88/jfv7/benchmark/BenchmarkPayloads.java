@@ -0,0 +1,108 @@
+package io.github.mariazevedo88.jfv7.benchmark;
+
+/**
+ * Class that builds the payloads used by the benchmarks. Each payload is an object with a few
+ * scalar fields around an array of records of the given shape, repeated until the given size.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class BenchmarkPayloads {
+
+	/**
+	 * Shapes of the records of a payload
+	 */
+	public enum Shape {
+
+		VALID,
+		UNQUOTED_KEYS,
+		COMMA_HEAVY,
+		DEEP_NESTING,
+		DATES_TIMES;
+
+	}
+
+	private static final int NESTING_DEPTH = 32;
+
+	private BenchmarkPayloads() {}
+
+	/**
+	 * Method that builds a payload with approximately the given size, in characters
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param shape
+	 * @param size
+	 * @return String
+	 */
+	public static String build(Shape shape, int size) {
+
+		boolean quoted = shape == Shape.VALID;
+		StringBuilder builder = new StringBuilder(size + 256);
+
+		builder.append('{').append(key("id", quoted)).append(':').append(value("267107086801", quoted)).append(',');
+		builder.append(key("totalDiscount", quoted)).append(':').append(value("0", quoted)).append(',');
+		builder.append(key("items", quoted)).append(":[");
+
+		for(int i = 0; builder.length() < size; i++) {
+			if(i > 0) builder.append(',');
+			appendRecord(builder, shape, i);
+		}
+
+		builder.append("],").append(key("totalAmount", quoted)).append(':').append(value("326.98", quoted)).append('}');
+
+		return builder.toString();
+	}
+
+	/**
+	 * Method that parses a size written as 1KB, 100KB or 10MB
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param size
+	 * @return int
+	 */
+	public static int parseSize(String size) {
+
+		if(size.endsWith("MB")) return Integer.parseInt(size.substring(0, size.length() - 2)) << 20;
+		if(size.endsWith("KB")) return Integer.parseInt(size.substring(0, size.length() - 2)) << 10;
+
+		return Integer.parseInt(size);
+	}
+
+	private static void appendRecord(StringBuilder builder, Shape shape, int index) {
+
+		switch(shape) {
+			case VALID:
+				builder.append("{\"sequential\":\"").append(index).append("\",\"id\":\"CREDIT_CARD\",\"value\":\"188.50\",\"installments\":\"9\"}");
+				break;
+			case UNQUOTED_KEYS:
+				builder.append("{sequential:").append(index).append(",id:CREDIT_CARD,value:188.50,installments:9}");
+				break;
+			case COMMA_HEAVY:
+				builder.append("{sequential:").append(index).append(",street:Rua Au00e7au00ed, casa 2, fundos,,reference:Em frente a padaria ( a casa nao tem porteiro, ou campainha) ligar avisando,value:188,50}");
+				break;
+			case DEEP_NESTING:
+				for(int depth = 0; depth < NESTING_DEPTH; depth++) builder.append("{level").append(depth).append(':');
+				builder.append("{sequential:").append(index).append(",value:188.50}");
+				for(int depth = 0; depth < NESTING_DEPTH; depth++) builder.append('}');
+				break;
+			case DATES_TIMES:
+				builder.append("{sequential:").append(index).append(",purchaseTimestamp:2018-07-26 18:00:31,purchaseDate:2018-07-15,reference:Recebimento 7:15 as 17:00}");
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown shape: " + shape);
+		}
+	}
+
+	private static String key(String key, boolean quoted) {
+		return quoted ? "\"" + key + "\"" : key;
+	}
+
+	private static String value(String value, boolean quoted) {
+		return quoted ? "\"" + value + "\"" : value;
+	}
+
+}
@@ -0,0 +1,60 @@
+package io.github.mariazevedo88.jfv7.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonElement;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+
+/**
+ * Benchmark of the validation and repair of a JSON, for each engine, payload shape and size
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomJSONFormatterBenchmark {
+
+	@Param({"LEGACY_REGEX", "TOKENIZER", "TYPED_TOKENIZER"})
+	private RepairEngineEnum engine;
+
+	@Param({"VALID", "UNQUOTED_KEYS", "COMMA_HEAVY", "DEEP_NESTING", "DATES_TIMES"})
+	private BenchmarkPayloads.Shape shape;
+
+	@Param({"1KB", "100KB", "10MB"})
+	private String size;
+
+	private String payload;
+	private CustomJSONFormatterService formatter;
+
+	@Setup
+	public void setUp() {
+		payload = BenchmarkPayloads.build(shape, BenchmarkPayloads.parseSize(size));
+		formatter = new CustomJSONFormatterService(engine);
+	}
+
+	@Benchmark
+	public JsonElement checkValidityAndFormatObject() throws IOException {
+		return formatter.checkValidityAndFormatObject(payload, true, true);
+	}
+
+}
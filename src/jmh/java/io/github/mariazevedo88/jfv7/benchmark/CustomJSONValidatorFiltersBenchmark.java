@@ -0,0 +1,61 @@
+package io.github.mariazevedo88.jfv7.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.mariazevedo88.jfv7.service.CustomJSONValidatorFiltersService;
+
+/**
+ * Benchmark of the removal and filter of keys of a JSON, for each payload shape and size.
+ * The keys are scalars placed before and after the array of records, so the whole payload is scanned.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CustomJSONValidatorFiltersBenchmark {
+
+	private static final String[] KEYS = {"totalDiscount", "totalAmount"};
+
+	@Param({"VALID", "UNQUOTED_KEYS", "COMMA_HEAVY", "DEEP_NESTING", "DATES_TIMES"})
+	private BenchmarkPayloads.Shape shape;
+
+	@Param({"1KB", "100KB", "10MB"})
+	private String size;
+
+	private String payload;
+	private CustomJSONValidatorFiltersService validator;
+
+	@Setup
+	public void setUp() {
+		payload = BenchmarkPayloads.build(shape, BenchmarkPayloads.parseSize(size));
+		validator = new CustomJSONValidatorFiltersService();
+	}
+
+	@Benchmark
+	public String removeJSONObjectsFromString() {
+		return validator.removeJSONObjectsFromString(payload, KEYS);
+	}
+
+	@Benchmark
+	public String filterJSONObjectsFromString() {
+		return validator.filterJSONObjectsFromString(payload, KEYS);
+	}
+
+}
@@ -1,11 +1,20 @@
 package io.github.mariazevedo88.jfv7;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 import org.apache.log4j.Logger;
 
 import com.google.gson.JsonElement;
 
+import io.github.mariazevedo88.jfv7.service.CustomJSONBatchService;
 import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
 
 /**
@@ -19,10 +28,14 @@ public class JsonFormatterValidatorApplication {
 	
 	private static final Logger logger = Logger.getLogger(JsonFormatterValidatorApplication.class.getName());
 	
+	private static final String BATCH_OPTION = "--batch";
+	private static final String THREADS_OPTION = "--threads";
+	
 	private static JsonElement json;
 
 	/**
-	 * Method that executes the formattter/validator application
+	 * Method that executes the formattter/validator application. With the batch option
+	 * (--batch input output rejects [--threads n]), it repairs a line-delimited file.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 10/02/2019
@@ -36,10 +49,41 @@ public class JsonFormatterValidatorApplication {
 		
 		CustomJSONFormatterService formatter = new CustomJSONFormatterService();
 		
+		if(args.length > 0 && BATCH_OPTION.equals(args[0])) {
+			runBatch(formatter, args);
+			return;
+		}
+		
 		for(String arg : args) {
 			json = formatter.checkValidityAndFormatObject(arg, false, false);
 		}
 	}
+	
+	/**
+	 * Method that repairs a line-delimited file, writing the valid records and the rejected records to separate files
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param formatter
+	 * @param args
+	 * @throws IOException
+	 */
+	private static void runBatch(CustomJSONFormatterService formatter, String[] args) throws IOException {
+		
+		if(args.length != 4 && !(args.length == 6 && THREADS_OPTION.equals(args[4]))) {
+			throw new IllegalArgumentException("Usage: --batch <input> <output> <rejects> [--threads <number>]");
+		}
+		
+		int threads = args.length == 6 ? Integer.parseInt(args[5]) : Runtime.getRuntime().availableProcessors();
+		CustomJSONBatchService batchService = new CustomJSONBatchService(formatter, threads);
+		
+		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(args[1]), StandardCharsets.UTF_8));
+				Writer writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(args[2]), StandardCharsets.UTF_8));
+				Writer rejectWriter = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(args[3]), StandardCharsets.UTF_8))) {
+			batchService.repair(reader, writer, rejectWriter, false);
+		}
+	}
 
 	/**
 	 * Method that returns a JsonObject
@@ -58,27 +58,42 @@ public class CustomJSON {
 	 */
 	public boolean isValidJson(Object json, boolean muteLog){
 		
-		if(json instanceof BufferedReader){
-			JsonElement res = JsonParser.parseReader((BufferedReader)json);
+		JsonElement res = getValidJsonElement(json);
+		
+		if(res != null) {
 			this.validJson = res;
 			return true;
 		}
-		
-		if(json instanceof JsonObject) {
-			this.validJson = (JsonObject) json;
-			return true;
+			
+		if(!muteLog && logger.isInfoEnabled()) {
+			logger.info(CustomJSONLogPreview.of("Invalid json: ", json));
 		}
 		
-		if(json instanceof JsonArray) {
-			this.validJson = (JsonArray) json;
-			return true;
+        return false;
+	}
+	
+	/**
+	 * Method that returns the JSON element of an object that is already a valid JSON, or null otherwise. 
+	 * It does not change any state, so it can be called by many threads at the same time.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * 
+	 * @return JsonElement
+	 */
+	public static JsonElement getValidJsonElement(Object json){
+		
+		if(json instanceof BufferedReader){
+			return JsonParser.parseReader((BufferedReader)json);
 		}
-			
-		if(!muteLog) {
-			logger.info("Invalid json: " + json.toString());
+		
+		if(json instanceof JsonObject || json instanceof JsonArray) {
+			return (JsonElement) json;
 		}
 		
-        return false;
+		return null;
 	}
 	
 	/**
@@ -91,6 +106,22 @@ public class CustomJSON {
 	 * @param muteException
 	 */
 	public void parseJSONObject(Object json, boolean muteException) {
+		this.validJson = parseJSONElement(json, muteException);
+	}
+	
+	/**
+	 * Method that parses a JSON object and returns it, or null if it is not a JSON object or array. 
+	 * It does not change any state, so it can be called by many threads at the same time.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param muteException
+	 * 
+	 * @return JsonElement
+	 */
+	public static JsonElement parseJSONElement(Object json, boolean muteException) {
 		
 		JsonElement res = null;
 		
@@ -100,8 +131,6 @@ public class CustomJSON {
 			}catch(JsonSyntaxException e) {
 				if(!muteException) {
 					throw new JsonSyntaxException("Error: JSON with more invalid characters than commas and quotes on keys and values.");
-				}else {
-					this.validJson = null;
 				}
 			}
 		}
@@ -110,10 +139,11 @@ public class CustomJSON {
 			res = JsonParser.parseReader((BufferedReader)json);
 		}
 		
-		if (res != null) {
-			if(res.isJsonObject()) this.validJson = res.getAsJsonObject();
-			if(res.isJsonArray()) this.validJson = res.getAsJsonArray();
+		if (res != null && (res.isJsonObject() || res.isJsonArray())) {
+			return res;
         }
+		
+		return null;
 	}
 
 }
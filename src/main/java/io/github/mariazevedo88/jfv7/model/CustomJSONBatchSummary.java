@@ -0,0 +1,53 @@
+package io.github.mariazevedo88.jfv7.model;
+
+/**
+ * Class that represents the immutable summary of a batch of line-delimited JSON records
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONBatchSummary {
+
+	private final long records;
+	private final long validRecords;
+	private final long repairedRecords;
+	private final long rejectedRecords;
+
+	public CustomJSONBatchSummary(long records, long validRecords, long repairedRecords, long rejectedRecords) {
+		this.records = records;
+		this.validRecords = validRecords;
+		this.repairedRecords = repairedRecords;
+		this.rejectedRecords = rejectedRecords;
+	}
+
+	/**
+	 * Method that returns the number of records read, without the blank lines
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return records
+	 */
+	public long getRecords() {
+		return records;
+	}
+
+	public long getValidRecords() {
+		return validRecords;
+	}
+
+	public long getRepairedRecords() {
+		return repairedRecords;
+	}
+
+	public long getRejectedRecords() {
+		return rejectedRecords;
+	}
+
+	@Override
+	public String toString() {
+		return "CustomJSONBatchSummary [records=" + records + ", validRecords=" + validRecords + ", repairedRecords="
+				+ repairedRecords + ", rejectedRecords=" + rejectedRecords + "]";
+	}
+
+}
@@ -0,0 +1,160 @@
+package io.github.mariazevedo88.jfv7.model;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+
+/**
+ * Class that represents a log message with a preview of a JSON. The JSON is only read when the message is written
+ * by log4j, and only up to the length of the preview: a tree is serialized until the preview is full, and a text is
+ * cut, so a log line costs the same for a JSON of a few bytes or of many megabytes.
+ *
+ * The length of the previews is read from the system property jfv7.log.preview.length (256 characters by default).
+ * With 0, only the length of the JSON is written.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONLogPreview {
+
+	public static final String PREVIEW_LENGTH_PROPERTY = "jfv7.log.preview.length";
+
+	private static final int DEFAULT_PREVIEW_LENGTH = 256;
+	private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+	private static volatile int previewLength = Math.max(0, Integer.getInteger(PREVIEW_LENGTH_PROPERTY, DEFAULT_PREVIEW_LENGTH));
+
+	private final String message;
+	private final Object json;
+
+	private CustomJSONLogPreview(String message, Object json) {
+		this.message = message;
+		this.json = json;
+	}
+
+	/**
+	 * Method that returns a log message followed by a preview of a JSON (a text, a tree or any other object)
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param message
+	 * @param json
+	 * @return CustomJSONLogPreview
+	 */
+	public static CustomJSONLogPreview of(String message, Object json) {
+		return new CustomJSONLogPreview(message, json);
+	}
+
+	public static int getPreviewLength() {
+		return previewLength;
+	}
+
+	/**
+	 * Method that sets the length of the previews of all messages, in characters
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param length
+	 */
+	public static void setPreviewLength(int length) {
+		if(length < 0) {
+			throw new IllegalArgumentException("The length of the preview can not be negative.");
+		}
+		previewLength = length;
+	}
+
+	/**
+	 * Method that writes the message and the preview. A JSON cut to fit the preview is followed by "..."
+	 * and by its length, when it is known.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return String
+	 */
+	@Override
+	public String toString() {
+
+		int limit = previewLength;
+		StringBuilder builder = new StringBuilder(message.length() + Math.min(limit, 1024) + 32).append(message);
+
+		if(json instanceof CharSequence) {
+			CharSequence text = (CharSequence) json;
+			if(text.length() <= limit) return builder.append(text).toString();
+			return builder.append(text.subSequence(0, limit)).append("... (").append(text.length()).append(" characters)").toString();
+		}
+
+		if(json instanceof JsonElement) {
+			PreviewBuilder preview = new PreviewBuilder(builder, builder.length() + limit);
+			try {
+				GSON.toJson((JsonElement) json, preview);
+			}catch(PreviewFullException e) {
+				builder.append("...");
+			}
+			return builder.toString();
+		}
+
+		String text = String.valueOf(json);
+		if(text.length() <= limit) return builder.append(text).toString();
+
+		return builder.append(text, 0, limit).append("... (").append(text.length()).append(" characters)").toString();
+	}
+
+	/**
+	 * Class that appends a serialized JSON to a builder, and stops the serialization when the preview is full
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class PreviewBuilder implements Appendable {
+
+		private final StringBuilder builder;
+		private final int limit;
+
+		PreviewBuilder(StringBuilder builder, int limit) {
+			this.builder = builder;
+			this.limit = limit;
+		}
+
+		@Override
+		public Appendable append(CharSequence text) {
+			return append(text, 0, text.length());
+		}
+
+		@Override
+		public Appendable append(CharSequence text, int start, int end) {
+			int room = limit - builder.length();
+			if(end - start > room) {
+				builder.append(text, start, start + room);
+				throw new PreviewFullException();
+			}
+			builder.append(text, start, end);
+			return this;
+		}
+
+		@Override
+		public Appendable append(char c) {
+			if(builder.length() == limit) throw new PreviewFullException();
+			builder.append(c);
+			return this;
+		}
+	}
+
+	/**
+	 * Exception that stops the serialization of a JSON when the preview is full. It has no stack trace.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class PreviewFullException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		PreviewFullException() {
+			super(null, null, false, false);
+		}
+	}
+
+}
@@ -0,0 +1,168 @@
+package io.github.mariazevedo88.jfv7.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Class that represents a path to a field of a JSON, as person.name, payment[*].value or items[0].
+ * Each step is a key of an object or an index of an array ([*] matches all elements).
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONPath {
+
+	private static final int KEY_STEP = -2;
+	private static final int ANY_INDEX = -1;
+
+	private final String expression;
+	private final String[] keys;
+	private final int[] indexes;
+
+	public CustomJSONPath(String expression) {
+
+		if(expression == null || expression.trim().isEmpty()) {
+			throw new IllegalArgumentException("Invalid JSON path: " + expression);
+		}
+
+		this.expression = expression;
+
+		List<String> stepKeys = new ArrayList<>();
+		List<Integer> stepIndexes = new ArrayList<>();
+
+		int i = 0;
+		int length = expression.length();
+
+		while(i < length) {
+			char c = expression.charAt(i);
+
+			if(c == '[') {
+				int end = expression.indexOf(']', i);
+				if(end < 0) throw new IllegalArgumentException("Invalid JSON path: " + expression);
+				stepKeys.add(null);
+				stepIndexes.add(parseIndex(expression.substring(i + 1, end).trim()));
+				i = end + 1;
+				if(i < length && expression.charAt(i) == '.') i++;
+			}else {
+				int end = i;
+				while(end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') end++;
+				if(end == i) throw new IllegalArgumentException("Invalid JSON path: " + expression);
+				stepKeys.add(expression.substring(i, end));
+				stepIndexes.add(KEY_STEP);
+				i = end < length && expression.charAt(end) == '.' ? end + 1 : end;
+				if(i == length && expression.charAt(length - 1) == '.') throw new IllegalArgumentException("Invalid JSON path: " + expression);
+			}
+		}
+
+		this.keys = stepKeys.toArray(new String[stepKeys.size()]);
+		this.indexes = new int[stepIndexes.size()];
+		for(int step = 0; step < indexes.length; step++) indexes[step] = stepIndexes.get(step);
+	}
+
+	private int parseIndex(String index) {
+
+		if("*".equals(index)) return ANY_INDEX;
+
+		try {
+			int value = Integer.parseInt(index);
+			if(value >= 0) return value;
+		}catch(NumberFormatException e) {
+			//reported below
+		}
+
+		throw new IllegalArgumentException("Invalid JSON path: " + expression);
+	}
+
+	public String getExpression() {
+		return expression;
+	}
+
+	/**
+	 * Method that returns the number of steps of the path
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return int
+	 */
+	public int size() {
+		return keys.length;
+	}
+
+	/**
+	 * Method that checks if a step of the path is the key of an object
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param step
+	 * @return boolean
+	 */
+	public boolean isKeyStep(int step) {
+		return keys[step] != null;
+	}
+
+	public String getKey(int step) {
+		return keys[step];
+	}
+
+	/**
+	 * Method that checks if a key, between start and end of a text, is the key of a step.
+	 * Nothing is allocated, so it can be called while a string is being read.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param step
+	 * @param text
+	 * @param start
+	 * @param end
+	 * @return boolean
+	 */
+	public boolean matchesKey(int step, CharSequence text, int start, int end) {
+
+		String key = keys[step];
+		if(key == null || key.length() != end - start) return false;
+
+		for(int i = 0; i < key.length(); i++) {
+			if(key.charAt(i) != text.charAt(start + i)) return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Method that checks if an index of an array matches a step
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param step
+	 * @param index
+	 * @return boolean
+	 */
+	public boolean matchesIndex(int step, int index) {
+		return keys[step] == null && (indexes[step] == ANY_INDEX || indexes[step] == index);
+	}
+
+	/**
+	 * Method that checks if the path can match more than one value, because it has a [*] step
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return boolean
+	 */
+	public boolean isMultiValued() {
+		for(int index : indexes) {
+			if(index == ANY_INDEX) return true;
+		}
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+}
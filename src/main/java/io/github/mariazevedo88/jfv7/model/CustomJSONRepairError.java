@@ -0,0 +1,150 @@
+package io.github.mariazevedo88.jfv7.model;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairErrorEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+
+/**
+ * Class that represents the immutable diagnostic of a JSON that could not be repaired: the reason, the stage of the
+ * legacy engine that failed, and the position of the error. The repair reports it instead of throwing an exception,
+ * and only the public methods called without muteException throw the exception it describes.
+ *
+ * The offset is counted in characters (in bytes for a UTF-8 input) from the beginning of the text where the error
+ * was found: the input, for the tokenizer, or the repaired JSON, when it is rejected by the parser. Line and column
+ * start at 1, and are 0 when the text was not kept in memory, as in a stream.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONRepairError {
+
+	private final RepairErrorEnum code;
+	private final RepairStageEnum stage;
+	private final long offset;
+	private final long line;
+	private final long column;
+	private final String message;
+
+	public CustomJSONRepairError(RepairErrorEnum code, RepairStageEnum stage, long offset, long line, long column, String message) {
+		this.code = code;
+		this.stage = stage;
+		this.offset = offset;
+		this.line = line;
+		this.column = column;
+		this.message = message;
+	}
+
+	/**
+	 * Constructor of an error without position
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param code
+	 * @param stage
+	 * @param message
+	 */
+	public CustomJSONRepairError(RepairErrorEnum code, RepairStageEnum stage, String message) {
+		this(code, stage, -1, 0, 0, message);
+	}
+
+	/**
+	 * Method that returns an error at an offset of a text, counting the line and the column of the offset
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param code
+	 * @param text
+	 * @param offset
+	 * @param message
+	 * @return CustomJSONRepairError
+	 */
+	public static CustomJSONRepairError at(RepairErrorEnum code, CharSequence text, long offset, String message) {
+
+		int end = (int) Math.min(Math.max(offset, 0), text.length());
+		long line = 1;
+		int lineStart = 0;
+
+		for(int i = 0; i < end; i++) {
+			if(text.charAt(i) == '\n') {
+				line++;
+				lineStart = i + 1;
+			}
+		}
+
+		return new CustomJSONRepairError(code, null, offset, line, offset - lineStart + 1, message);
+	}
+
+	public RepairErrorEnum getCode() {
+		return code;
+	}
+
+	/**
+	 * Method that returns the stage of the legacy engine that failed, or null if the error was found by the tokenizer
+	 * or by the parser
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return RepairStageEnum
+	 */
+	public RepairStageEnum getStage() {
+		return stage;
+	}
+
+	/**
+	 * Method that returns the offset of the error, or -1 if it is not known
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return long
+	 */
+	public long getOffset() {
+		return offset;
+	}
+
+	public long getLine() {
+		return line;
+	}
+
+	public long getColumn() {
+		return column;
+	}
+
+	public String getMessage() {
+		return message;
+	}
+
+	/**
+	 * Method that returns the exception thrown for this error when the exceptions are not muted,
+	 * of the same type thrown before the errors were reported
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return RuntimeException
+	 */
+	public RuntimeException toException() {
+		switch(code) {
+			case NULL_JSON:
+				return new NullPointerException(message);
+			case INVALID_STRUCTURE:
+				return new StringIndexOutOfBoundsException(message);
+			case INVALID_REPAIRED_JSON:
+				return new JsonSyntaxException(message);
+			default:
+				return new JsonParseException(message);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "CustomJSONRepairError [code=" + code + ", stage=" + stage + ", offset=" + offset + ", line=" + line
+			+ ", column=" + column + ", message=" + message + "]";
+	}
+
+}
@@ -0,0 +1,182 @@
+package io.github.mariazevedo88.jfv7.model;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+
+/**
+ * Class that represents the result of the validation and repair of a JSON. Its fields never change and it 
+ * can be shared between threads, but the JSON element it returns is a mutable Gson tree shared by every 
+ * caller of the result: a caller that changes the element must take a copy() of the result first.
+ * 
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONRepairResult {
+	
+	private volatile JsonElement validJson;
+	private final String repairedJson;
+	private final RepairStatusEnum status;
+	private final RepairEngineEnum repairEngine;
+	private final String message;
+	private final CustomJSONRepairError error;
+	private final boolean parseOnDemand;
+	
+	public CustomJSONRepairResult(JsonElement validJson, String repairedJson, RepairStatusEnum status, 
+			RepairEngineEnum repairEngine, String message) {
+		this(validJson, repairedJson, status, repairEngine, message, null);
+	}
+	
+	/**
+	 * Constructor of a result with the diagnostic of the error that stopped the repair
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param validJson
+	 * @param repairedJson
+	 * @param status
+	 * @param repairEngine
+	 * @param message
+	 * @param error
+	 */
+	public CustomJSONRepairResult(JsonElement validJson, String repairedJson, RepairStatusEnum status, 
+			RepairEngineEnum repairEngine, String message, CustomJSONRepairError error) {
+		this.validJson = validJson;
+		this.repairedJson = repairedJson;
+		this.status = status;
+		this.repairEngine = repairEngine;
+		this.message = message;
+		this.error = error;
+		this.parseOnDemand = false;
+	}
+	
+	/**
+	 * Constructor of the result of a text that is already a valid JSON. The text is kept as it is 
+	 * and only parsed the first time the JSON element is requested.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param validJson
+	 * @param repairEngine
+	 */
+	public CustomJSONRepairResult(String validJson, RepairEngineEnum repairEngine) {
+		this.repairedJson = validJson;
+		this.status = RepairStatusEnum.VALID;
+		this.repairEngine = repairEngine;
+		this.message = null;
+		this.error = null;
+		this.parseOnDemand = true;
+	}
+
+	/**
+	 * Method that returns the valid JSON element, or null if the JSON could not be repaired. 
+	 * The element is parsed once and the same instance is returned to every caller (and by the 
+	 * formatter as its valid JSON), so it must not be changed: use copy() to get an element of your own.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return validJson
+	 */
+	public JsonElement getValidJson() {
+		
+		JsonElement element = validJson;
+		
+		if(element == null && parseOnDemand) {
+			synchronized(this) {
+				element = validJson;
+				if(element == null) {
+					element = JsonParser.parseString(repairedJson);
+					validJson = element;
+				}
+			}
+		}
+		
+		return element;
+	}
+
+	/**
+	 * Method that returns the repaired text, before it was parsed. If the JSON was already valid, 
+	 * this is the original text (or null when the input was not a string).
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return repairedJson
+	 */
+	public String getRepairedJson() {
+		return repairedJson;
+	}
+
+	public RepairStatusEnum getStatus() {
+		return status;
+	}
+
+	public RepairEngineEnum getRepairEngine() {
+		return repairEngine;
+	}
+
+	/**
+	 * Method that returns the diagnostic message of an invalid JSON
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return message
+	 */
+	public String getMessage() {
+		return message;
+	}
+	
+	/**
+	 * Method that returns the diagnostic of the error that stopped the repair, with its reason and position, 
+	 * or null if the JSON is valid
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return CustomJSONRepairError
+	 */
+	public CustomJSONRepairError getError() {
+		return error;
+	}
+	
+	/**
+	 * Method that checks if the result has a valid JSON
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return boolean
+	 */
+	public boolean isValid() {
+		return parseOnDemand || validJson != null;
+	}
+
+	/**
+	 * Method that returns a copy of the result with its own JSON element, so that the copy can be 
+	 * changed by a caller without changing the original
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return CustomJSONRepairResult
+	 */
+	public CustomJSONRepairResult copy() {
+		
+		if(parseOnDemand) return new CustomJSONRepairResult(repairedJson, repairEngine);
+		
+		JsonElement element = validJson;
+		return new CustomJSONRepairResult(element == null ? null : element.deepCopy(), repairedJson, status, repairEngine, message, error);
+	}
+
+	@Override
+	public String toString() {
+		return "CustomJSONRepairResult [status=" + status + ", repairEngine=" + repairEngine + ", message=" + message + ", error=" + error + "]";
+	}
+
+}
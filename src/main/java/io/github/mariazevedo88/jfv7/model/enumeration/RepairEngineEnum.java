@@ -0,0 +1,26 @@
+package io.github.mariazevedo88.jfv7.model.enumeration;
+
+/**
+ * Enum that represents the engines available to repair an invalid JSON
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public enum RepairEngineEnum {
+
+	/**
+	 * Original chain of regular expressions applied over the whole string
+	 */
+	LEGACY_REGEX,
+
+	/**
+	 * Single-pass tokenizer that reads the input once and writes the quoted JSON directly
+	 */
+	TOKENIZER,
+
+	/**
+	 * Single-pass tokenizer that writes the numbers, booleans and null values as JSON types, without quotes
+	 */
+	TYPED_TOKENIZER;
+
+}
@@ -0,0 +1,36 @@
+package io.github.mariazevedo88.jfv7.model.enumeration;
+
+/**
+ * Enum with the reasons why a JSON could not be repaired
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public enum RepairErrorEnum {
+
+	/**
+	 * There was no JSON to repair (NullPointerException)
+	 */
+	NULL_JSON,
+
+	/**
+	 * The JSON is empty, or nothing was left of it after the repair (JsonParseException)
+	 */
+	EMPTY_JSON,
+
+	/**
+	 * A key without value, a value without key, or a root that is not an object or an array (StringIndexOutOfBoundsException)
+	 */
+	INVALID_STRUCTURE,
+
+	/**
+	 * The JSON ended with objects or arrays still open (JsonParseException)
+	 */
+	INCOMPLETE_JSON,
+
+	/**
+	 * The repaired JSON is still rejected by the parser (JsonSyntaxException)
+	 */
+	INVALID_REPAIRED_JSON;
+
+}
@@ -0,0 +1,261 @@
+package io.github.mariazevedo88.jfv7.model.enumeration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Enum with the fixed regular expressions used to repair an invalid JSON. Each pattern is compiled only 
+ * once and each thread reuses its own matcher, resetting it to the new input on every call.
+ * 
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public enum RepairPatternEnum {
+	
+	DOUBLE_COMMA_WITH_SPACE("\\s+,,", ",", Neighbour.WHITESPACE, ",,", Neighbour.ANY), //correcting double commas with space
+	DECIMAL_NUMBER_WITH_COMMA("(\\d+)\\,(\\d+)", "$1.$2", Neighbour.DIGIT, ",", Neighbour.DIGIT), //correcting decimal numbers with comma
+	HOURS_WITH_SECONDS("(\\d+)\\:(\\d+)\\:(\\d+)", "$1;;$2;;$3", Neighbour.DIGIT, ":", Neighbour.DIGIT), //correcting hours in the HH:mm:SS format
+	HOURS("(\\d+)\\:(\\d+)", "$1;;$2", Neighbour.DIGIT, ":", Neighbour.DIGIT), //correcting hours in the HH:mm format
+	LEFT_PARENTHESES("(\\()", ";", Neighbour.ANY, "(", Neighbour.ANY), //correcting left parentheses wrongly placed
+	RIGHT_PARENTHESES("(\\))", ";", Neighbour.ANY, ")", Neighbour.ANY), //correcting right parentheses wrongly placed
+	COLON_WRONGLY_PLACED("[A-Z]+:", "", Neighbour.UPPER_CASE, ":", Neighbour.ANY), //removing colon wrongly placed
+	EMPTY_VALUE_BEFORE_COMMA("(:,)", ":\'\',", Neighbour.ANY, ":,", Neighbour.ANY),
+	EMPTY_VALUE_BEFORE_RIGHT_KEY("(:})", ": \'\'}", Neighbour.ANY, ":}", Neighbour.ANY),
+	EMPTY_VALUE_BETWEEN_COMMAS("(,,)", "\'\',", Neighbour.ANY, ",,", Neighbour.ANY),
+	COMMA_BEFORE_RIGHT_KEY("(,})", "}", Neighbour.ANY, ",}", Neighbour.ANY),
+	KEY_AND_VALUE("(?<=\\{|, ?)([a-zA-Z]+?): ?(?![\\{\\[])(.+?)(?=,|})", "\"$1\": \"$2\"", Neighbour.LETTER, ":", Neighbour.ANY),
+	SIMPLE_QUOTES(DelimitersEnum.QUOTES, DelimitersEnum.EMPTY_STRING),
+	DOUBLE_SEMICOLON(DelimitersEnum.DOUBLE_SEMICOLON, DelimitersEnum.COLON),
+	SEMICOLON(DelimitersEnum.SEMICOLON, DelimitersEnum.COMMA);
+	
+	private final Pattern pattern;
+	private final String replacement;
+	private final String[] replacementLiterals;
+	private final int[] replacementGroups;
+	private final ThreadLocal<Matcher> matcher;
+	private final Neighbour before;
+	private final String trigger;
+	private final Neighbour after;
+	
+	private RepairPatternEnum(String regex, String replacement, Neighbour before, String trigger, Neighbour after) {
+		this(Pattern.compile(regex), replacement, before, trigger, after);
+	}
+	
+	private RepairPatternEnum(DelimitersEnum delimiter, DelimitersEnum replacement) {
+		this(Pattern.compile(delimiter.getValue(), Pattern.LITERAL), Matcher.quoteReplacement(replacement.getValue()), Neighbour.ANY, delimiter.getValue(), Neighbour.ANY);
+	}
+	
+	private RepairPatternEnum(final Pattern pattern, String replacement, Neighbour before, String trigger, Neighbour after) {
+		this.pattern = pattern;
+		this.replacement = replacement;
+		this.before = before;
+		this.trigger = trigger;
+		this.after = after;
+		
+		//the replacement is split once into literals and group references ($n), so it does not need to be parsed 
+		//again on every match. Only the references of a single digit are read: the others are rejected
+		List<String> literals = new ArrayList<>();
+		List<Integer> groups = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		
+		for(int i = 0; i < replacement.length(); i++) {
+			char c = replacement.charAt(i);
+			if(c == '\\') {
+				if(++i == replacement.length()) throw new IllegalArgumentException("Replacement ending with a backslash: " + replacement);
+				literal.append(replacement.charAt(i));
+			}else if(c == '$') {
+				if(!isDigit(replacement, i + 1) || isDigit(replacement, i + 2)) {
+					throw new IllegalArgumentException("Only group references of a single digit are supported: " + replacement);
+				}
+				literals.add(literal.toString());
+				groups.add(Character.digit(replacement.charAt(++i), 10));
+				literal.setLength(0);
+			}else {
+				literal.append(c);
+			}
+		}
+		literals.add(literal.toString());
+		
+		this.replacementLiterals = literals.toArray(new String[literals.size()]);
+		this.replacementGroups = new int[groups.size()];
+		for(int i = 0; i < replacementGroups.length; i++) {
+			replacementGroups[i] = groups.get(i);
+		}
+		
+		this.matcher = new ThreadLocal<Matcher>() {
+			@Override
+			protected Matcher initialValue() {
+				return pattern.matcher("");
+			}
+		};
+	}
+
+	private static boolean isDigit(String replacement, int index) {
+		return index < replacement.length() && replacement.charAt(index) >= '0' && replacement.charAt(index) <= '9';
+	}
+
+	public Pattern getPattern() {
+		return pattern;
+	}
+
+	public String getReplacement() {
+		return replacement;
+	}
+	
+	/**
+	 * Method that returns the matcher of the current thread, reset to the input
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param input
+	 * @return Matcher
+	 */
+	public Matcher matcher(CharSequence input) {
+		return matcher.get().reset(input);
+	}
+	
+	/**
+	 * Method that checks, without the regex, if the input has the characters that every match of the pattern 
+	 * needs: the trigger, with the expected characters around it. When it returns false the pattern has no match, 
+	 * so its pass over the input can be skipped.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param input
+	 * @return boolean
+	 */
+	public boolean isApplicable(String input) {
+		
+		for(int index = input.indexOf(trigger); index >= 0; index = input.indexOf(trigger, index + 1)) {
+			int next = index + trigger.length();
+			if((before == Neighbour.ANY || index > 0 && before.accepts(input.charAt(index - 1))) 
+					&& (after == Neighbour.ANY || next < input.length() && after.accepts(input.charAt(next)))) {
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Method that replaces every match of the pattern on the input, with the matcher of the current thread. 
+	 * If there is no match, the input is returned as it is.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param input
+	 * @return String
+	 */
+	public String replaceAll(CharSequence input) {
+		
+		Matcher currentMatcher = matcher(input);
+		String result = currentMatcher.replaceAll(replacement);
+		currentMatcher.reset(DelimitersEnum.EMPTY_STRING.getValue()); //does not keep a reference to the input
+		
+		return result;
+	}
+	
+	/**
+	 * Method that replaces every match of the pattern on the input, appending the result to a buffer of the caller, 
+	 * that can be reused by many calls. If there is no match, nothing is appended. The matches are replaced as 
+	 * appendReplacement/appendTail do, but into a StringBuilder, since the Matcher of Java 7 only appends to a 
+	 * StringBuffer.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param input
+	 * @param result
+	 * @return boolean true if the pattern matched the input
+	 */
+	public boolean replaceAll(CharSequence input, StringBuilder result) {
+		
+		Matcher currentMatcher = matcher(input);
+		
+		if(!currentMatcher.find()) {
+			currentMatcher.reset(DelimitersEnum.EMPTY_STRING.getValue());
+			return false;
+		}
+		
+		result.ensureCapacity(result.length() + input.length() + 16);
+		appendReplacedInput(currentMatcher, input, result);
+		
+		return true;
+	}
+	
+	/**
+	 * Method that appends the input with the replacements, from the first match already found to the end
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param currentMatcher
+	 * @param input
+	 * @param result
+	 */
+	private void appendReplacedInput(Matcher currentMatcher, CharSequence input, StringBuilder result) {
+		
+		int lastAppendPosition = 0;
+		
+		do {
+			result.append(input, lastAppendPosition, currentMatcher.start());
+			appendReplacement(currentMatcher, input, result);
+			lastAppendPosition = currentMatcher.end();
+		} while(currentMatcher.find());
+		
+		result.append(input, lastAppendPosition, input.length());
+		currentMatcher.reset(DelimitersEnum.EMPTY_STRING.getValue());
+	}
+	
+	/**
+	 * Method that appends the replacement of the current match, resolving its group references
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param currentMatcher
+	 * @param input
+	 * @param result
+	 */
+	private void appendReplacement(Matcher currentMatcher, CharSequence input, StringBuilder result) {
+		
+		result.append(replacementLiterals[0]);
+		
+		for(int i = 0; i < replacementGroups.length; i++) {
+			int group = replacementGroups[i];
+			if(currentMatcher.start(group) >= 0) {
+				result.append(input, currentMatcher.start(group), currentMatcher.end(group));
+			}
+			result.append(replacementLiterals[i + 1]);
+		}
+	}
+	
+	/**
+	 * Enum with the classes of the characters next to the trigger of a pattern
+	 */
+	private enum Neighbour {
+		
+		ANY, DIGIT, LETTER, UPPER_CASE, WHITESPACE;
+		
+		private boolean accepts(char c) {
+			switch(this) {
+				case DIGIT:
+					return c >= '0' && c <= '9';
+				case LETTER:
+					return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+				case UPPER_CASE:
+					return c >= 'A' && c <= 'Z';
+				case WHITESPACE:
+					return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+				default:
+					return true;
+			}
+		}
+	}
+
+}
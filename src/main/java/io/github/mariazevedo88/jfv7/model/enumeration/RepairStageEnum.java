@@ -0,0 +1,60 @@
+package io.github.mariazevedo88.jfv7.model.enumeration;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Enum with the stages of the legacy engine, each one with the patterns it applies
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public enum RepairStageEnum {
+
+	/**
+	 * Decimal numbers with comma, hours, parentheses and colons wrongly placed (fixMalformatedFields)
+	 */
+	MALFORMATED_FIELDS(RepairPatternEnum.DOUBLE_COMMA_WITH_SPACE, RepairPatternEnum.DECIMAL_NUMBER_WITH_COMMA,
+			RepairPatternEnum.HOURS_WITH_SECONDS, RepairPatternEnum.HOURS, RepairPatternEnum.LEFT_PARENTHESES,
+			RepairPatternEnum.RIGHT_PARENTHESES, RepairPatternEnum.COLON_WRONGLY_PLACED),
+
+	/**
+	 * Keys without values and commas before a right key (fixEmptyFields)
+	 */
+	EMPTY_FIELDS(RepairPatternEnum.EMPTY_VALUE_BEFORE_COMMA, RepairPatternEnum.EMPTY_VALUE_BEFORE_RIGHT_KEY,
+			RepairPatternEnum.EMPTY_VALUE_BETWEEN_COMMAS, RepairPatternEnum.COMMA_BEFORE_RIGHT_KEY),
+
+	/**
+	 * Double quotes added to keys and values
+	 */
+	KEY_AND_VALUE(RepairPatternEnum.KEY_AND_VALUE),
+
+	/**
+	 * Single quotes removed (fixFieldsWithSimpleQuotes)
+	 */
+	SIMPLE_QUOTES(RepairPatternEnum.SIMPLE_QUOTES),
+
+	/**
+	 * Values broken by commas joined again (fixFieldsWithCommasWronglyModified), counted once per section joined
+	 */
+	BROKEN_VALUES(),
+
+	/**
+	 * Control delimiters restored (replaceControlDelimiters)
+	 */
+	CONTROL_DELIMITERS(RepairPatternEnum.DOUBLE_SEMICOLON, RepairPatternEnum.SEMICOLON);
+
+	private final Set<RepairPatternEnum> patterns;
+
+	private RepairStageEnum(RepairPatternEnum... patterns) {
+		Set<RepairPatternEnum> stagePatterns = EnumSet.noneOf(RepairPatternEnum.class);
+		Collections.addAll(stagePatterns, patterns);
+		this.patterns = Collections.unmodifiableSet(stagePatterns);
+	}
+
+	public Set<RepairPatternEnum> getPatterns() {
+		return patterns;
+	}
+
+}
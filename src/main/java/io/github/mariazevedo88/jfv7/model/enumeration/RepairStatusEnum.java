@@ -0,0 +1,26 @@
+package io.github.mariazevedo88.jfv7.model.enumeration;
+
+/**
+ * Enum that represents the result of the validation and repair of a JSON
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public enum RepairStatusEnum {
+
+	/**
+	 * The JSON was already valid, nothing was done
+	 */
+	VALID,
+
+	/**
+	 * The JSON was invalid and was repaired
+	 */
+	REPAIRED,
+
+	/**
+	 * The JSON was invalid and could not be repaired
+	 */
+	INVALID;
+
+}
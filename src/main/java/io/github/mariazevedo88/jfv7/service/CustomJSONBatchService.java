@@ -0,0 +1,227 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.log4j.Logger;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONBatchSummary;
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairResult;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+
+/**
+ * Class that repairs line-delimited JSON records (one record per line) in parallel. The lines are
+ * read in chunks, repaired by a pool of threads and written in the same order of the input as valid
+ * NDJSON. Records that can not be repaired are written to a separate reject stream, as they were read,
+ * without stopping the batch.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public class CustomJSONBatchService {
+
+	private static final Logger logger = Logger.getLogger(CustomJSONBatchService.class.getName());
+
+	private static final int DEFAULT_CHUNK_SIZE = 512;
+	private static final char LINE_SEPARATOR = '\n';
+
+	private final CustomJSONFormatterService formatter;
+	private final int threads;
+	private final int chunkSize;
+
+	public CustomJSONBatchService(CustomJSONFormatterService formatter, int threads) {
+		this(formatter, threads, DEFAULT_CHUNK_SIZE);
+	}
+
+	public CustomJSONBatchService(CustomJSONFormatterService formatter, int threads, int chunkSize) {
+		if(threads < 1 || chunkSize < 1) {
+			throw new IllegalArgumentException("The number of threads and the chunk size must be greater than zero.");
+		}
+		this.formatter = formatter;
+		this.threads = threads;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Method that repairs all records of a line-delimited input. Blank lines are ignored. At most two chunks
+	 * per thread are kept in memory, so the size of the input is not limited by the heap.
+	 * The reader and the writers are not closed.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param reader
+	 * @param writer
+	 * @param rejectWriter
+	 * @param muteLog
+	 * @return CustomJSONBatchSummary
+	 * @throws IOException
+	 */
+	public CustomJSONBatchSummary repair(BufferedReader reader, Writer writer, Writer rejectWriter, boolean muteLog) throws IOException {
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		ArrayDeque<Future<RepairedChunk>> pending = new ArrayDeque<>();
+		long[] counters = new long[RepairStatusEnum.values().length];
+
+		try {
+			List<String> lines = readChunk(reader);
+			while(!lines.isEmpty()) {
+				if(pending.size() == threads << 1) {
+					writeChunk(await(pending.poll()), writer, rejectWriter, counters);
+				}
+				pending.add(executor.submit(new RepairChunkTask(formatter, lines)));
+				lines = readChunk(reader);
+			}
+
+			while(!pending.isEmpty()) {
+				writeChunk(await(pending.poll()), writer, rejectWriter, counters);
+			}
+		}finally {
+			executor.shutdownNow();
+		}
+
+		writer.flush();
+		rejectWriter.flush();
+
+		long valid = counters[RepairStatusEnum.VALID.ordinal()];
+		long repaired = counters[RepairStatusEnum.REPAIRED.ordinal()];
+		long rejected = counters[RepairStatusEnum.INVALID.ordinal()];
+
+		CustomJSONBatchSummary summary = new CustomJSONBatchSummary(valid + repaired + rejected, valid, repaired, rejected);
+		if(!muteLog) logger.info("Batch finished: " + summary);
+
+		return summary;
+	}
+
+	/**
+	 * Method that reads the next non-blank lines of the input, up to the chunk size
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param reader
+	 * @return List
+	 * @throws IOException
+	 */
+	private List<String> readChunk(BufferedReader reader) throws IOException {
+
+		List<String> lines = new ArrayList<>(chunkSize);
+
+		String line;
+		while(lines.size() < chunkSize && (line = reader.readLine()) != null) {
+			if(!line.trim().isEmpty()) lines.add(line);
+		}
+
+		return lines;
+	}
+
+	/**
+	 * Method that writes a repaired chunk to the output, and its rejected records to the reject stream
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param chunk
+	 * @param writer
+	 * @param rejectWriter
+	 * @param counters
+	 * @throws IOException
+	 */
+	private static void writeChunk(RepairedChunk chunk, Writer writer, Writer rejectWriter, long[] counters) throws IOException {
+
+		for(int i = 0; i < chunk.records.size(); i++) {
+			RepairStatusEnum status = chunk.statuses[i];
+			counters[status.ordinal()]++;
+
+			if(status == RepairStatusEnum.INVALID) {
+				rejectWriter.write(chunk.records.get(i));
+				rejectWriter.write(LINE_SEPARATOR);
+			}else {
+				writer.write(chunk.outputs[i]);
+				writer.write(LINE_SEPARATOR);
+			}
+		}
+	}
+
+	private static RepairedChunk await(Future<RepairedChunk> future) throws IOException {
+		try {
+			return future.get();
+		}catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Batch interrupted.", e);
+		}catch(ExecutionException e) {
+			throw new IOException("Error on batch repair.", e.getCause());
+		}
+	}
+
+	/**
+	 * Class that holds the records of a chunk with their repaired JSON and status
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class RepairedChunk {
+
+		private final List<String> records;
+		private final String[] outputs;
+		private final RepairStatusEnum[] statuses;
+
+		RepairedChunk(List<String> records) {
+			this.records = records;
+			this.outputs = new String[records.size()];
+			this.statuses = new RepairStatusEnum[records.size()];
+		}
+	}
+
+	/**
+	 * Task that repairs all records of a chunk, muting logs and exceptions of each record
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class RepairChunkTask implements Callable<RepairedChunk> {
+
+		private final CustomJSONFormatterService formatter;
+		private final List<String> records;
+
+		RepairChunkTask(CustomJSONFormatterService formatter, List<String> records) {
+			this.formatter = formatter;
+			this.records = records;
+		}
+
+		@Override
+		public RepairedChunk call() throws IOException {
+
+			RepairedChunk chunk = new RepairedChunk(records);
+
+			for(int i = 0; i < records.size(); i++) {
+				RepairStatusEnum status = RepairStatusEnum.INVALID;
+				try {
+					CustomJSONRepairResult result = formatter.repair(records.get(i), true, true);
+					if(result.getStatus() == RepairStatusEnum.VALID && result.getRepairedJson() != null) {
+						chunk.outputs[i] = result.getRepairedJson();
+						status = result.getStatus();
+					}else if(result.isValid()) {
+						chunk.outputs[i] = result.getValidJson().toString();
+						status = result.getStatus();
+					}
+				}catch(RuntimeException e) {
+					//a record that breaks the repair is rejected, as any other invalid record
+				}
+				chunk.statuses[i] = status;
+			}
+
+			return chunk;
+		}
+	}
+
+}
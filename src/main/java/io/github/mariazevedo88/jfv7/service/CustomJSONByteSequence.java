@@ -0,0 +1,70 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Class that reads the bytes of a UTF-8 JSON as characters, without decoding them. Each byte is a character
+ * (the ASCII characters are the same in both), so the keys, brackets, colons, commas and quotes can be found as in a
+ * string, and the bytes of the other characters are kept as they are to be written back as bytes.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+final class CustomJSONByteSequence implements CharSequence {
+
+	private final ByteBuffer bytes;
+	private final int offset;
+	private final int length;
+
+	/**
+	 * Constructor of a sequence with the bytes between the position and the limit of a buffer, that are not changed
+	 *
+	 * @param bytes
+	 */
+	CustomJSONByteSequence(ByteBuffer bytes) {
+		this(bytes, bytes.position(), bytes.remaining());
+	}
+
+	private CustomJSONByteSequence(ByteBuffer bytes, int offset, int length) {
+		this.bytes = bytes;
+		this.offset = offset;
+		this.length = length;
+	}
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+	@Override
+	public char charAt(int index) {
+		if(index < 0 || index >= length) throw new IndexOutOfBoundsException("Index: " + index + ", length: " + length);
+		return (char) (bytes.get(offset + index) & 0xFF);
+	}
+
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		if(start < 0 || end > length || start > end) throw new IndexOutOfBoundsException("Start: " + start + ", end: " + end);
+		return new CustomJSONByteSequence(bytes, offset + start, end - start);
+	}
+
+	/**
+	 * Method that decodes the bytes as UTF-8. It is only used to show the JSON in messages.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return String
+	 */
+	@Override
+	public String toString() {
+		ByteBuffer region = bytes.duplicate();
+		//through Buffer, that has these methods in all versions of Java
+		((Buffer) region).limit(offset + length);
+		((Buffer) region).position(offset);
+		return StandardCharsets.UTF_8.decode(region).toString();
+	}
+
+}
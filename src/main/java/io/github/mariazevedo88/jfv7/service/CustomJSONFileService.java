@@ -0,0 +1,263 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.apache.log4j.Logger;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONBatchSummary;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+
+/**
+ * Class that repairs JSON files encoded in UTF-8 mapping them in memory, a region at a time, and writing the
+ * repaired JSON through file channels. The bytes are never decoded to strings, so a file of any size is repaired
+ * with the memory of a single region and of a small output buffer. The files are repaired by the tokenizer engine
+ * (typed, if it is the engine selected in the formatter).
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public class CustomJSONFileService {
+
+	private static final Logger logger = Logger.getLogger(CustomJSONFileService.class.getName());
+	private static final String INVALID_JSON_MESSAGE = "JsonParseException: JSON with more invalid characters than commas and quotes on keys and values.";
+
+	private static final int MAP_SIZE = 64 << 20;
+	private static final int OUTPUT_BUFFER_SIZE = 1 << 20;
+	private static final byte LINE_SEPARATOR = '\n';
+
+	private final CustomJSONFormatterService formatter;
+
+	public CustomJSONFileService(CustomJSONFormatterService formatter) {
+		this.formatter = formatter;
+	}
+
+	/**
+	 * Method that repairs a file with a single JSON document, writing the repaired JSON to the output file
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param input
+	 * @param output
+	 * @param muteLog
+	 * @param muteException
+	 * @return boolean true if the whole document was repaired
+	 * @throws IOException
+	 */
+	public boolean repair(File input, File output, boolean muteLog, boolean muteException) throws IOException {
+
+		try(FileChannel inputChannel = FileChannel.open(input.toPath(), StandardOpenOption.READ);
+				FileChannel outputChannel = openOutput(output)) {
+
+			boolean repaired = CustomJSONRepairEngineService.repair(inputChannel, outputChannel, muteException, isTypedValues());
+			if(!repaired && !muteLog) logger.warn(INVALID_JSON_MESSAGE);
+
+			return repaired;
+		}
+	}
+
+	/**
+	 * Method that repairs a file with one JSON record per line (NDJSON). The lines are found in the mapped region
+	 * and each one is repaired straight from its bytes. Blank lines are ignored, and the records that can not be
+	 * repaired are written, as they were read, to the reject file.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param input
+	 * @param output
+	 * @param rejects
+	 * @param muteLog
+	 * @return CustomJSONBatchSummary
+	 * @throws IOException
+	 */
+	public CustomJSONBatchSummary repairLines(File input, File output, File rejects, boolean muteLog) throws IOException {
+
+		long valid = 0;
+		long repaired = 0;
+		long rejected = 0;
+
+		try(FileChannel inputChannel = FileChannel.open(input.toPath(), StandardOpenOption.READ);
+				FileChannel outputChannel = openOutput(output);
+				FileChannel rejectChannel = openOutput(rejects)) {
+
+			ByteBuffer outputBuffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE);
+			ByteBuffer rejectBuffer = ByteBuffer.allocateDirect(OUTPUT_BUFFER_SIZE >> 4);
+
+			long size = inputChannel.size();
+			long position = 0;
+			MappedByteBuffer region = null;
+			long regionStart = 0;
+			long regionEnd = 0;
+
+			while(position < size) {
+
+				if(position >= regionEnd) {
+					regionStart = position;
+					regionEnd = position + Math.min(size - position, MAP_SIZE);
+					region = inputChannel.map(FileChannel.MapMode.READ_ONLY, regionStart, regionEnd - regionStart);
+				}
+
+				int lineStart = (int) (position - regionStart);
+				int lineEnd = indexOfLineSeparator(region, lineStart);
+
+				//a line that does not end in this region is read again in a larger region starting on it
+				if(lineEnd < 0 && regionEnd < size) {
+					long length = Math.min(size - position, Math.max(MAP_SIZE, (regionEnd - position) << 1));
+					if(length > Integer.MAX_VALUE) throw new IOException("A line is larger than " + Integer.MAX_VALUE + " bytes.");
+					regionStart = position;
+					regionEnd = position + length;
+					region = inputChannel.map(FileChannel.MapMode.READ_ONLY, regionStart, length);
+					continue;
+				}
+
+				if(lineEnd < 0) lineEnd = region.limit();
+				position = regionStart + lineEnd + 1;
+
+				ByteBuffer line = slice(region, lineStart, trimLineEnd(region, lineStart, lineEnd));
+				if(isBlank(line)) continue;
+
+				if(CustomJSONValidatorFiltersService.isValidJson(new CustomJSONByteSequence(line))) {
+					write(outputChannel, outputBuffer, line);
+					valid++;
+				}else if(repairLine(line, outputChannel, outputBuffer)) {
+					repaired++;
+				}else {
+					write(rejectChannel, rejectBuffer, line);
+					rejected++;
+				}
+			}
+
+			drain(outputChannel, outputBuffer);
+			drain(rejectChannel, rejectBuffer);
+		}
+
+		CustomJSONBatchSummary summary = new CustomJSONBatchSummary(valid + repaired + rejected, valid, repaired, rejected);
+		if(!muteLog) logger.info("File finished: " + summary);
+
+		return summary;
+	}
+
+	/**
+	 * Method that repairs a line straight into the output buffer, followed by a line separator. A repaired line
+	 * larger than the free space of the buffer is repaired again into a buffer large enough for it.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param line
+	 * @param channel
+	 * @param buffer
+	 * @return boolean true if the line was repaired
+	 * @throws IOException
+	 */
+	private boolean repairLine(ByteBuffer line, FileChannel channel, ByteBuffer buffer) throws IOException {
+
+		ByteBuffer target = buffer;
+		int start = buffer.position();
+
+		while(true) {
+			try {
+				if(!formatter.repairTo(line, target, true, true)) return false;
+				break;
+			}catch(BufferOverflowException e) {
+				((Buffer) target).position(start);
+				if(target == buffer && start > 0) {
+					drain(channel, buffer);
+				}else {
+					target = ByteBuffer.allocate(Math.max(target.capacity(), line.remaining()) << 1);
+				}
+				start = 0;
+			}catch(RuntimeException e) {
+				((Buffer) target).position(start);
+				return false;
+			}
+		}
+
+		if(target != buffer) {
+			drain(channel, buffer);
+			((Buffer) target).flip();
+			while(target.hasRemaining()) channel.write(target);
+		}
+
+		writeLineSeparator(channel, buffer);
+		return true;
+	}
+
+	/**
+	 * Method that writes a record and a line separator through the buffer of a channel. A record
+	 * larger than the buffer is written straight to the channel.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param channel
+	 * @param buffer
+	 * @param record
+	 * @throws IOException
+	 */
+	private static void write(FileChannel channel, ByteBuffer buffer, ByteBuffer record) throws IOException {
+
+		if(record.remaining() >= buffer.remaining()) drain(channel, buffer);
+
+		if(record.remaining() >= buffer.remaining()) {
+			while(record.hasRemaining()) channel.write(record);
+		}else {
+			buffer.put(record);
+		}
+
+		writeLineSeparator(channel, buffer);
+	}
+
+	private static void writeLineSeparator(FileChannel channel, ByteBuffer buffer) throws IOException {
+		if(!buffer.hasRemaining()) drain(channel, buffer);
+		buffer.put(LINE_SEPARATOR);
+	}
+
+	private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+		((Buffer) buffer).flip();
+		while(buffer.hasRemaining()) channel.write(buffer);
+		((Buffer) buffer).clear();
+	}
+
+	private static FileChannel openOutput(File file) throws IOException {
+		return FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+	}
+
+	private static int indexOfLineSeparator(ByteBuffer region, int start) {
+		for(int i = start; i < region.limit(); i++) {
+			if(region.get(i) == LINE_SEPARATOR) return i;
+		}
+		return -1;
+	}
+
+	private static int trimLineEnd(ByteBuffer region, int start, int end) {
+		return end > start && region.get(end - 1) == '\r' ? end - 1 : end;
+	}
+
+	private static ByteBuffer slice(ByteBuffer region, int start, int end) {
+		ByteBuffer line = region.duplicate();
+		((Buffer) line).limit(end);
+		((Buffer) line).position(start);
+		return line;
+	}
+
+	private static boolean isBlank(ByteBuffer line) {
+		for(int i = line.position(); i < line.limit(); i++) {
+			if((line.get(i) & 0xFF) > ' ') return false;
+		}
+		return true;
+	}
+
+	private boolean isTypedValues() {
+		return formatter.getRepairEngine() == RepairEngineEnum.TYPED_TOKENIZER;
+	}
+
+}
@@ -2,17 +2,44 @@ package io.github.mariazevedo88.jfv7.service;
 
 import java.io.BufferedReader;
 import java.io.IOException;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
+import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
 
 import io.github.mariazevedo88.jfv7.model.CustomJSON;
+import io.github.mariazevedo88.jfv7.model.CustomJSONLogPreview;
+import io.github.mariazevedo88.jfv7.model.CustomJSONPath;
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairError;
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairResult;
 import io.github.mariazevedo88.jfv7.model.enumeration.DelimitersEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairErrorEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairPatternEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
 
 /**
  * Class that verify a JSON and format in cases of invalid JSON
@@ -24,10 +51,72 @@ import io.github.mariazevedo88.jfv7.model.enumeration.DelimitersEnum;
 public class CustomJSONFormatterService {
 	
 	private static final Logger logger = Logger.getLogger(CustomJSONFormatterService.class.getName());
+	private static final String INVALID_JSON_MESSAGE = "JsonParseException: JSON with more invalid characters than commas and quotes on keys and values.";
+	private static final String UNREPAIRED_JSON_MESSAGE = "Error: JSON with more invalid characters than commas and quotes on keys and values.";
+	private static final String NULL_JSON_MESSAGE = "Object to validated is null.";
+	
 	private CustomJSON customJson;
+	private volatile RepairEngineEnum repairEngine;
+	private volatile CustomJSONRepairCache repairCache;
+	private volatile CustomJSONRepairPlanCache repairPlanCache;
+	private volatile CustomJSONRepairMetrics repairMetrics = CustomJSONRepairMetrics.NO_OP;
+	private volatile CustomJSONRepairProfile repairProfile = CustomJSONRepairProfile.DEFAULT;
 	
 	public CustomJSONFormatterService() {
+		this(RepairEngineEnum.LEGACY_REGEX);
+	}
+	
+	public CustomJSONFormatterService(RepairEngineEnum repairEngine) {
 		customJson = new CustomJSON();
+		this.repairEngine = repairEngine;
+	}
+	
+	/**
+	 * Method that repairs an invalid JSON with the selected engine. The legacy engine applies the rules of the profile, 
+	 * and with a plan cache only the patterns learned for the shape of the JSON, applying all of them again if the 
+	 * result is not valid.
+	 * No exception is thrown: the error that stopped the repair is added to a list, and the repaired JSON 
+	 * that is still invalid is checked by the caller.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param engine
+	 * @param profile
+	 * @param planCache
+	 * @param metrics
+	 * @param invalidJson
+	 * @param errors receives the error that stopped the repair
+	 * 
+	 * @return String
+	 */
+	private static String repairInvalidJson(RepairEngineEnum engine, CustomJSONRepairProfile profile, CustomJSONRepairPlanCache planCache, 
+			CustomJSONRepairMetrics metrics, String invalidJson, List<CustomJSONRepairError> errors) {
+		
+		if(engine != RepairEngineEnum.LEGACY_REGEX) {
+			return CustomJSONRepairEngineService.repair(invalidJson, engine == RepairEngineEnum.TYPED_TOKENIZER, errors);
+		}
+		
+		if(planCache == null) {
+			return getInvalidJsonToFormat(invalidJson, profile, null, null, metrics, errors);
+		}
+		
+		long fingerprint = CustomJSONRepairPlanCache.fingerprint(invalidJson);
+		Set<RepairPatternEnum> plan = planCache.get(profile, fingerprint);
+		
+		if(plan != null) {
+			String repairedJson = getInvalidJsonToFormat(invalidJson, profile, plan, null, metrics, null);
+			if(CustomJSONValidatorFiltersService.isParsableJson(repairedJson)) return repairedJson;
+			planCache.fallback();
+		}
+		
+		Set<RepairPatternEnum> applied = EnumSet.noneOf(RepairPatternEnum.class);
+		String repairedJson = getInvalidJsonToFormat(invalidJson, profile, null, applied, metrics, errors);
+		
+		//a plan is learned only from a shape that the patterns repair
+		if(CustomJSONValidatorFiltersService.isParsableJson(repairedJson)) planCache.put(profile, fingerprint, applied);
+		
+		return repairedJson;
 	}
 	
 	/**
@@ -44,317 +133,870 @@ public class CustomJSONFormatterService {
 	 * @since 10/02/2019
 	 * 
 	 * @param invalidJson
-	 * @param muteException
+	 * @param profile the rules to apply, in order
+	 * @param plan the patterns to apply, or null to apply all of them
+	 * @param applied receives the patterns that changed the JSON, if not null
+	 * @param metrics receives the stages and the patterns that changed the JSON
+	 * @param errors receives the error that stopped the repair, if not null
 	 * 
 	 * @return String
 	 */
-	private static String getInvalidJsonToFormat(String invalidJson, boolean muteException) {
+	private static String getInvalidJsonToFormat(String invalidJson, CustomJSONRepairProfile profile, Set<RepairPatternEnum> plan, 
+			Set<RepairPatternEnum> applied, CustomJSONRepairMetrics metrics, List<CustomJSONRepairError> errors) {
+		
+		boolean measured = metrics != CustomJSONRepairMetrics.NO_OP;
+		if(measured && applied == null) applied = EnumSet.noneOf(RepairPatternEnum.class);
+		Set<RepairStageEnum> stages = measured ? EnumSet.noneOf(RepairStageEnum.class) : null;
+		
+		List<CustomJSONRepairRule> rules = profile.getRules();
+		int rule = 0;
 		
-		invalidJson = fixMalformatedFields(invalidJson); //format malformated fields before apply the main regex
-		invalidJson = fixEmptyFields(invalidJson); //format empty fields before apply the main regex
+		//format malformated and empty fields, and add the quotes, before joining the values broken by commas
+		for(; rule < rules.size() && rules.get(rule).getStage().compareTo(RepairStageEnum.BROKEN_VALUES) <= 0; rule++) {
+			invalidJson = applyRule(rules.get(rule), invalidJson, plan, applied, stages);
+		}
 		
-		invalidJson = invalidJson.replaceAll("(?<=\\{|, ?)([a-zA-Z]+?): ?(?![\\{\\[])(.+?)(?=,|})", "\"$1\": \"$2\"");
-		invalidJson = fixFieldsWithSimpleQuotes(invalidJson);
+		//the values are joined in the buffer of the thread, and only the result is allocated
+		CustomJSONScratchBuffers buffers = CustomJSONScratchBuffers.acquire(invalidJson.length());
 		
-		StringBuilder builderModified = new StringBuilder(invalidJson);
+		try {
+			invalidJson = fixFieldsWithCommasWronglyModified(invalidJson, buffers.output, metrics, errors).toString();
+		} finally {
+			buffers.release();
+		}
 		
-		builderModified = fixFieldsWithCommasWronglyModified(builderModified, muteException);
-		invalidJson = replaceControlDelimiters(builderModified);
+		//restore the control delimiters
+		for(; rule < rules.size(); rule++) {
+			invalidJson = applyRule(rules.get(rule), invalidJson, plan, applied, stages);
+		}
+		
+		if(measured) recordPatterns(metrics, applied, stages);
 		
 		return invalidJson;
 	}
-
+	
 	/**
-	 * Method to clean a string with single quotes
+	 * Method that records the patterns and the stages that changed a JSON
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 28/02/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param invalidJson
-	 * @return String
+	 * @param metrics
+	 * @param applied
+	 * @param stages
 	 */
-	private static String fixFieldsWithSimpleQuotes(String invalidJson) {
-		return invalidJson.replaceAll(DelimitersEnum.QUOTES.getValue(), DelimitersEnum.EMPTY_STRING.getValue());
+	private static void recordPatterns(CustomJSONRepairMetrics metrics, Set<RepairPatternEnum> applied, Set<RepairStageEnum> stages) {
+		
+		for(RepairPatternEnum pattern : applied) {
+			metrics.recordPattern(pattern);
+		}
+		
+		for(RepairStageEnum stage : stages) {
+			metrics.recordStage(stage, 1);
+		}
 	}
 	
 	/**
-	 * Method to fix malformated values before apply the main regex
+	 * Method that applies a rule, if its pattern is in the plan and its pre-check passes, recording if it changed 
+	 * the JSON. The rules that are not built on a pattern are not learned by the plans, and are always applied.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 02/04/2019
+	 * @since 17/10/2026
 	 * 
+	 * @param rule
 	 * @param invalidJson
+	 * @param plan the patterns to apply, or null to apply all of them
+	 * @param applied receives the patterns that changed the JSON, if not null
+	 * @param stages receives the stages that changed the JSON, if not null
 	 * @return String
 	 */
-	private static String fixMalformatedFields(String invalidJson) {
+	private static String applyRule(CustomJSONRepairRule rule, String invalidJson, Set<RepairPatternEnum> plan, 
+			Set<RepairPatternEnum> applied, Set<RepairStageEnum> stages) {
 		
-		invalidJson = invalidJson.replaceAll("\\s+,,", ","); //correcting double commas with space
-		invalidJson = invalidJson.replaceAll("(\\d+)\\,(\\d+)", "$1.$2"); //correcting decimal numbers with comma
-		invalidJson = invalidJson.replaceAll("(\\d+)\\:(\\d+)\\:(\\d+)", "$1;;$2;;$3"); //correcting hours in the HH:mm:SS format
-		invalidJson = invalidJson.replaceAll("(\\d+)\\:(\\d+)", "$1;;$2"); //correcting hours in the HH:mm format
-		invalidJson = invalidJson.replaceAll("(\\()", ";"); //correcting left parentheses wrongly placed
-		invalidJson = invalidJson.replaceAll("(\\))", ";"); //correcting right parentheses wrongly placed
-		invalidJson = invalidJson.replaceAll("[A-Z]+:", ""); //removing colon wrongly placed
+		RepairPatternEnum pattern = rule instanceof CustomJSONPatternRepairRule ? ((CustomJSONPatternRepairRule) rule).getPattern() : null;
 		
-		return invalidJson;
+		if(plan != null && pattern != null && !plan.contains(pattern)) return invalidJson;
+		if(!rule.isApplicable(invalidJson)) return invalidJson;
+		
+		//the rule returns the same string when nothing was changed
+		String result = rule.apply(invalidJson);
+		
+		if(result != invalidJson) {
+			if(applied != null && pattern != null) applied.add(pattern);
+			if(stages != null) stages.add(rule.getStage());
+		}
+		
+		return result;
 	}
 
 	/**
-	 * Method to fix json keys with empty values before apply the main regex
+	 * Method that fix invalid fields wrongly converted by the regex of getInvalidJsonToFormat() method
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 28/02/2019
+	 * @since 17/02/2019
 	 * 
-	 * @param invalidJson
-	 * @return String
+	 * @param builder
+	 * @param builderModified receives the fixed JSON
+	 * @param metrics
+	 * @param errors receives the error that stopped the repair, if not null
+	 * @return StringBuilder
 	 */
-	private static String fixEmptyFields(String invalidJson) {
+	private static StringBuilder fixFieldsWithCommasWronglyModified(CharSequence builder, StringBuilder builderModified, 
+			CustomJSONRepairMetrics metrics, List<CustomJSONRepairError> errors){
 		
-		invalidJson = invalidJson.replaceAll("(:,)", ":\'\',");
-		invalidJson = invalidJson.replaceAll("(:})", ": \'\'}");
-		invalidJson = invalidJson.replaceAll("(,,)", "\'\',");
-		invalidJson = invalidJson.replaceAll("(,})", "}");
+		StringBuilder builderFixed = cleanInvalidJsonValues(builder, builderModified, metrics, errors);
 		
-		return invalidJson;
+		if(builderFixed.length() == 0 && errors != null && errors.isEmpty()) {
+			errors.add(new CustomJSONRepairError(RepairErrorEnum.EMPTY_JSON, RepairStageEnum.BROKEN_VALUES, UNREPAIRED_JSON_MESSAGE));
+		}
+		
+		return builderFixed;
 	}
-
+	
 	/**
-	 * Method that replaces some control delimiters in the fix routine on fields with wrong commas
+	 * Method that clean fields wrongly separated with commas and append these strings. The string is read 
+	 * once, from left to right: each comma-separated section with a colon is a field and is copied, each 
+	 * section without a colon is part of a value broken by commas and is appended to the previous field.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 17/02/2019
 	 * 
-	 * @param builderModified
-	 * @return String
+	 * @param builder
+	 * @param builderModified an empty buffer that receives the cleaned JSON
+	 * @param metrics
+	 * @param errors receives the error that stopped the repair, if not null
+	 * @return StringBuilder
 	 */
-	private static String replaceControlDelimiters(StringBuilder builderModified) {
+	private static StringBuilder cleanInvalidJsonValues(CharSequence builder, StringBuilder builderModified, 
+			CustomJSONRepairMetrics metrics, List<CustomJSONRepairError> errors) {
+		
+		int length = builder.length();
+		int previousFieldEnd = -1;
+		int brokenValues = 0;
+		int start = 0;
+		
+		while(start <= length) {
+			
+			int end = start;
+			boolean isField = false;
+			
+			for(; end < length && builder.charAt(end) != ','; end++) {
+				if(builder.charAt(end) == ':') isField = true;
+			}
+			
+			if(isField || start == end) {
+				if(start > 0) builderModified.append(',');
+				builderModified.append(builder, start, end);
+				if(isField) previousFieldEnd = builderModified.length();
+			}else {
+				if(previousFieldEnd < 0) {
+					//the offset in the text changed by the previous stages would not point to the input
+					if(errors != null) {
+						errors.add(new CustomJSONRepairError(RepairErrorEnum.INVALID_STRUCTURE, RepairStageEnum.BROKEN_VALUES, 
+							"String is an empty object or has an invalid structure (key without value or vice-versa): " + builder.subSequence(start, end)));
+					}
+					builderModified.setLength(0);
+					return builderModified;
+				}
+				
+				builderModified.setLength(previousFieldEnd);
+				cleanWrongQuotesOnFields(builderModified, builder, start, end);
+				previousFieldEnd = builderModified.length();
+				brokenValues++;
+			}
+			
+			start = end + 1;
+		}
 		
-		String finalString = builderModified.toString().replaceAll(DelimitersEnum.DOUBLE_SEMICOLON.getValue(), DelimitersEnum.COLON.getValue());
-		finalString = finalString.replaceAll(DelimitersEnum.SEMICOLON.getValue(), DelimitersEnum.COMMA.getValue());
+		if(brokenValues > 0) metrics.recordStage(RepairStageEnum.BROKEN_VALUES, brokenValues);
 		
-		return finalString;
+		return builderModified;
 	}
 
 	/**
-	 * Method that fix invalid fields wrongly converted by the regex of getInvalidJsonToFormat() method
+	 * Method that reassembles a whole word broken by commas, concatenating the section analyzed with the field 
+	 * previously treated, that is at the end of the builder. The closing quote of the previous field is replaced 
+	 * by a control delimiter (restored as a comma later) and moved to the end of the section.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 17/02/2019
 	 * 
 	 * @param builderModified
+	 * @param builder
+	 * @param start
+	 * @param end
+	 */
+	private static void cleanWrongQuotesOnFields(StringBuilder builderModified, CharSequence builder, int start, int end) {
+		
+		int lastIndexOf = builderModified.length() - 1;
+		
+		if(builderModified.charAt(lastIndexOf) == '"') {
+			builderModified.setCharAt(lastIndexOf, DelimitersEnum.SEMICOLON.getValue().charAt(0));
+		}
+		
+		//If the field that has commas in the middle, but is at the end of the object, 
+		//treat so that the quotes are in the right place
+		int rightKey = start;
+		while(rightKey < end && builder.charAt(rightKey) != '}') rightKey++;
+		
+		builderModified.append(builder, start, rightKey).append(DelimitersEnum.RIGHT_DOUBLE_QUOTE_WITH_ESCAPE.getValue())
+			.append(builder, rightKey, end);
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed. It does not change any state of the formatter, 
+	 * so a single instance can be shared by many threads.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param muteLog
 	 * @param muteException
-	 * @return StringBuilder
+	 * 
+	 * @return CustomJSONRepairResult
+	 * @throws IOException
 	 */
-	private static StringBuilder fixFieldsWithCommasWronglyModified(StringBuilder builderModified, boolean muteException){
+	public CustomJSONRepairResult repair(Object json, boolean muteLog, boolean muteException) throws IOException {
 		
-		String [] invalidJsonValues = builderModified.toString().split(DelimitersEnum.COMMA.getValue());
-		boolean hasInvalidValues = true;
+		RepairEngineEnum engine = this.repairEngine;
+		CustomJSONRepairMetrics metrics = this.repairMetrics;
+		CustomJSONRepairResult result;
 		
-		while(hasInvalidValues) {
-			builderModified = cleanInvalidJsonValues(invalidJsonValues, builderModified, muteException);
+		if(metrics == CustomJSONRepairMetrics.NO_OP) {
+			result = getRepairResult(json, engine, metrics, muteLog);
+		}else {
+			long start = System.nanoTime();
+			long inputLength = json instanceof CharSequence ? ((CharSequence) json).length() : 0;
 			
-			if(builderModified.length() == 0) {
-				if(muteException) {
-					hasInvalidValues = false;
-				}else {
-					throw new JsonParseException("Error: JSON with more invalid characters than commas and quotes on keys and values.");
-				}
-			}else {
-				invalidJsonValues = builderModified.toString().split(DelimitersEnum.COMMA.getValue());
-				if(!CustomJSONValidatorFiltersService.isStringHasInvalidJsonValues(invalidJsonValues)) {
-					hasInvalidValues = false;
-				}
+			try {
+				result = getRepairResult(json, engine, metrics, muteLog);
+			}catch(IOException | RuntimeException e) {
+				recordRepair(metrics, engine, RepairStatusEnum.INVALID, start, inputLength, 0);
+				throw e;
 			}
+			
+			String repairedJson = result.getRepairedJson();
+			recordRepair(metrics, engine, result.getStatus(), start, inputLength, 
+					result.isValid() && repairedJson != null ? repairedJson.length() : 0);
 		}
 		
-		return builderModified;
+		if(result.getError() != null) reportError(result.getError(), muteLog, muteException);
+		
+		return result;
 	}
 	
 	/**
-	 * Method that clean fields wrongly separated with commas and append these strings
+	 * Method that throws the exception of an error that stopped a repair, at the end of a public method called 
+	 * without muteException. Otherwise, the error is only logged, with its position.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 17/02/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param invalidJsonValues
-	 * @param builder
+	 * @param error
+	 * @param muteLog
 	 * @param muteException
-	 * @return StringBuilder
 	 */
-	private static StringBuilder cleanInvalidJsonValues(String[] invalidJsonValues, StringBuilder builder, boolean muteException) {
+	private static void reportError(CustomJSONRepairError error, boolean muteLog, boolean muteException) {
 		
-		StringBuilder builderModified = new StringBuilder(builder);
-		String previousField = "";
-		boolean isClean = false;
+		if(!muteException) throw error.toException();
 		
-		for(int i=0; i<invalidJsonValues.length; i++) {
-			String stringAnalyzed = invalidJsonValues[i];
-			if(stringAnalyzed.contains(DelimitersEnum.COLON.getValue())) {
-				previousField = stringAnalyzed;
-			}else{
-				if(!stringAnalyzed.isEmpty()) {
-					isClean = cleanWrongQuotesOnFields(builderModified, previousField, stringAnalyzed, muteException);
-					if(isClean) builderModified = new StringBuilder(DelimitersEnum.EMPTY_STRING.getValue());
-					break;
-				}
+		if(!muteLog && logger.isEnabledFor(Level.WARN)) logger.warn(CustomJSONLogPreview.of(INVALID_JSON_MESSAGE + " ", error));
+	}
+	
+	/**
+	 * Method that checks a repaired JSON with the rules of the parser, without throwing an exception, 
+	 * and returns the error at the first character rejected, or null if the parser reads it
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param repairedJson
+	 * @param message
+	 * @return CustomJSONRepairError
+	 */
+	private static CustomJSONRepairError checkRepairedJson(String repairedJson, String message) {
+		int offset = CustomJSONValidatorFiltersService.getUnparsableJsonOffset(repairedJson);
+		return offset < 0 ? null : CustomJSONRepairError.at(RepairErrorEnum.INVALID_REPAIRED_JSON, repairedJson, offset, message);
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, with the cache of the formatter
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param engine
+	 * @param metrics
+	 * @param muteLog
+	 * 
+	 * @return CustomJSONRepairResult
+	 * @throws IOException
+	 */
+	private CustomJSONRepairResult getRepairResult(Object json, RepairEngineEnum engine, CustomJSONRepairMetrics metrics, 
+			boolean muteLog) throws IOException {
+		
+		CustomJSONRepairProfile profile = this.repairProfile;
+		CustomJSONRepairPlanCache planCache = this.repairPlanCache;
+		
+		if(json instanceof BufferedReader){
+			BufferedReader reader = (BufferedReader) json;
+			json = reader.readLine();
+			reader.close();
+		}
+		
+		if(json == null) {
+			return new CustomJSONRepairResult(null, null, RepairStatusEnum.INVALID, engine, NULL_JSON_MESSAGE, 
+					new CustomJSONRepairError(RepairErrorEnum.NULL_JSON, null, NULL_JSON_MESSAGE));
+		}
+		
+		CustomJSONRepairCache cache = this.repairCache;
+		
+		if(cache != null && json instanceof CharSequence) {
+			String key = json.toString();
+			CustomJSONRepairResult result = cache.get(key, engine, profile);
+			
+			if(result == null) {
+				result = repairObject(key, engine, profile, planCache, metrics, muteLog);
+				cache.put(key, result, profile);
+			}else if(!muteLog && logger.isInfoEnabled()) {
+				logger.info("Cached json: " + result.getStatus());
 			}
+			
+			return result;
 		}
 		
-		return builderModified;
+		return repairObject(json, engine, profile, planCache, metrics, muteLog);
 	}
-
+	
 	/**
-	 * Method that traverses a string array and identifies whether the string is a valid key and value set. 
-	 * If it is not and is part of a whole word broken by commas, it applies treatment to clean and reassemble 
-	 * the string by concatenating with the section previously treated.
+	 * Method that logs a message with a preview of a JSON. Nothing is read from the JSON
+	 * when the info level is disabled.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 17/02/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param builderModified
-	 * @param previousField
-	 * @param stringToBeAnalyzed
-	 * @param muteException
+	 * @param message
+	 * @param json
+	 */
+	private static void logInfo(String message, Object json) {
+		if(logger.isInfoEnabled()) logger.info(CustomJSONLogPreview.of(message, json));
+	}
+	
+	/**
+	 * Method that checks JSON validity and format if needed, with an engine. No exception is thrown: 
+	 * the result of a JSON that could not be repaired has the error that stopped the repair.
 	 * 
-	 * @return boolean
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param engine
+	 * @param profile
+	 * @param planCache
+	 * @param metrics
+	 * @param muteLog
+	 * 
+	 * @return CustomJSONRepairResult
 	 */
-	private static boolean cleanWrongQuotesOnFields(StringBuilder builderModified, String previousField, String stringToBeAnalyzed, 
-			boolean muteException) {
+	private static CustomJSONRepairResult repairObject(Object json, RepairEngineEnum engine, CustomJSONRepairProfile profile, 
+			CustomJSONRepairPlanCache planCache, CustomJSONRepairMetrics metrics, boolean muteLog) {
+		
+		//most of the strings are already valid: they are checked without building a tree and parsed only on demand
+		if(json instanceof CharSequence && CustomJSONValidatorFiltersService.isValidJson((CharSequence) json)) {
+			if(!muteLog) logInfo("Valid json: ", json);
+			return new CustomJSONRepairResult(json.toString(), engine);
+		}
 		
-		StringBuilder stringBuilderToBeReplaced = new StringBuilder(previousField);
-		int lastIndexOf = previousField.length();
-		boolean isClean = false;
+		JsonElement validJson = CustomJSON.getValidJsonElement(json);
 		
-		try {
-			if(stringBuilderToBeReplaced.lastIndexOf(DelimitersEnum.RIGHT_DOUBLE_QUOTE_WITH_ESCAPE.getValue()) == lastIndexOf-1) {
-				stringBuilderToBeReplaced = stringBuilderToBeReplaced.deleteCharAt(lastIndexOf-1);
-				stringBuilderToBeReplaced.insert(lastIndexOf-1, DelimitersEnum.SEMICOLON.getValue());
-			}
-		}catch(StringIndexOutOfBoundsException exception){
+		if(validJson != null) {
+			if(!muteLog) logInfo("Valid json: ", validJson);
+			return new CustomJSONRepairResult(validJson, null, RepairStatusEnum.VALID, engine, null);
+		}
+		
+		if(!muteLog) logInfo("Invalid json: ", json);
+		
+		List<CustomJSONRepairError> errors = new ArrayList<>(1);
+		String jsonToTest = repairInvalidJson(engine, profile, planCache, metrics, json.toString(), errors);
+		CustomJSONRepairError error = errors.isEmpty() ? checkRepairedJson(jsonToTest, UNREPAIRED_JSON_MESSAGE) : errors.get(0);
+		
+		if(error != null) {
+			return new CustomJSONRepairResult(null, jsonToTest, RepairStatusEnum.INVALID, engine, INVALID_JSON_MESSAGE, error);
+		}
+		
+		validJson = JsonParser.parseString(jsonToTest);
+		if(!muteLog) logInfo("Valid json: ", validJson);
+		
+		return new CustomJSONRepairResult(validJson, jsonToTest, RepairStatusEnum.REPAIRED, engine, null);
+	}
+	
+	/**
+	 * Method that repairs an invalid JSON read from a Reader and writes the result to a Writer with bounded memory,
+	 * whatever the size of the document. The streaming mode always uses the tokenizer engine (typed, if selected), 
+	 * because the regex chain needs the whole document in memory. The reader and the writer are not closed.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param reader
+	 * @param writer
+	 * @param muteLog
+	 * @param muteException
+	 * @return boolean true if the whole document was repaired
+	 * @throws IOException
+	 */
+	public boolean repair(Reader reader, Writer writer, boolean muteLog, boolean muteException) throws IOException {
+		
+		if(reader == null || writer == null) {
 			if(!muteException) {
-				throw new StringIndexOutOfBoundsException("String is an empty object or has an invalid structure (key without value or vice-versa): " + stringToBeAnalyzed);
-			}else {
-				isClean = true;
-				logger.error("String is an empty object or has an invalid structure (key without value or vice-versa): " + stringToBeAnalyzed);
+				throw new NullPointerException(NULL_JSON_MESSAGE);
 			}
+			return false;
 		}
 		
-		if(!isClean) {
-			if(stringToBeAnalyzed.contains(DelimitersEnum.RIGHT_KEY.getValue())){
-				//If the field that has commas in the middle, but is at the end of the object, 
-				//treat so that the quotes are in the right place
-				int lastIndexOfString = stringToBeAnalyzed.length();
-				String stringModified = new StringBuilder(stringToBeAnalyzed).deleteCharAt(lastIndexOfString-1).toString(); 
-				stringBuilderToBeReplaced.append(stringModified).append(DelimitersEnum.RIGHT_KEY_WITH_ESCAPE.getValue());
-			}else{
-				stringBuilderToBeReplaced.append(stringToBeAnalyzed).append(DelimitersEnum.RIGHT_DOUBLE_QUOTE_WITH_ESCAPE.getValue());
+		boolean repaired = CustomJSONRepairEngineService.repair(reader, writer, muteException, 
+				repairEngine == RepairEngineEnum.TYPED_TOKENIZER);
+		if(!repaired && !muteLog) logger.warn(INVALID_JSON_MESSAGE);
+		
+		return repaired;
+	}
+	
+	/**
+	 * Method that repairs an invalid JSON read from an InputStream and writes the result to an OutputStream,
+	 * both encoded in UTF-8, with bounded memory. The streams are not closed.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param inputStream
+	 * @param outputStream
+	 * @param muteLog
+	 * @param muteException
+	 * @return boolean true if the whole document was repaired
+	 * @throws IOException
+	 */
+	public boolean repair(InputStream inputStream, OutputStream outputStream, boolean muteLog, boolean muteException) throws IOException {
+		
+		if(inputStream == null || outputStream == null) {
+			return repair((Reader) null, null, muteLog, muteException);
+		}
+		
+		Writer writer = new OutputStreamWriter(outputStream, StandardCharsets.UTF_8);
+		boolean repaired = repair(new InputStreamReader(inputStream, StandardCharsets.UTF_8), writer, muteLog, muteException);
+		writer.flush();
+		
+		return repaired;
+	}
+	
+	/**
+	 * Method that repairs a JSON and appends the repaired text to an Appendable (as a Writer or a StringBuilder), 
+	 * without building a tree: the text is checked as a stream of tokens by the same lenient rules of the parser. 
+	 * A repaired text that is not a strict JSON (as the unquoted keys left by the legacy engine) is rewritten 
+	 * token by token as a strict JSON. The repair cache is not used, because it keeps trees.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @param out
+	 * @param muteLog
+	 * @param muteException
+	 * @return boolean true if a valid JSON was written
+	 * @throws IOException
+	 */
+	public boolean repairTo(CharSequence json, Appendable out, boolean muteLog, boolean muteException) throws IOException {
+		
+		String repairedJson = getRepairedText(json, out, muteLog, muteException);
+		if(repairedJson == null) return false;
+		
+		out.append(repairedJson);
+		return true;
+	}
+	
+	/**
+	 * Method that repairs a JSON and puts the repaired text, encoded in UTF-8, in a ByteBuffer, without building a tree. 
+	 * If the buffer does not have room for the whole text, nothing is put and a BufferOverflowException is thrown.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @param out
+	 * @param muteLog
+	 * @param muteException
+	 * @return boolean true if a valid JSON was put in the buffer
+	 */
+	public boolean repairTo(CharSequence json, ByteBuffer out, boolean muteLog, boolean muteException) {
+		
+		String repairedJson = getRepairedText(json, out, muteLog, muteException);
+		if(repairedJson == null) return false;
+		
+		out.put(repairedJson.getBytes(StandardCharsets.UTF_8));
+		return true;
+	}
+	
+	/**
+	 * Method that repairs a JSON encoded in UTF-8, in a slice of an array, and puts the repaired JSON in UTF-8 
+	 * in a ByteBuffer, without decoding it to a string
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @param offset
+	 * @param length
+	 * @param out
+	 * @param muteLog
+	 * @param muteException
+	 * @return boolean true if a valid JSON was put in the buffer
+	 */
+	public boolean repairTo(byte[] json, int offset, int length, ByteBuffer out, boolean muteLog, boolean muteException) {
+		return repairTo(json == null ? null : ByteBuffer.wrap(json, offset, length), out, muteLog, muteException);
+	}
+	
+	/**
+	 * Method that repairs a JSON encoded in UTF-8, from the position to the limit of a buffer, and puts the repaired 
+	 * JSON in UTF-8 in another buffer, without decoding it to a string. A valid JSON is copied as it is, any other is 
+	 * repaired by the tokenizer engine (typed, if selected) straight from the bytes. The input buffer is not changed 
+	 * and nothing is put in the output buffer if the JSON could not be repaired.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @param out
+	 * @param muteLog
+	 * @param muteException
+	 * @return boolean true if a valid JSON was put in the buffer
+	 */
+	public boolean repairTo(ByteBuffer json, ByteBuffer out, boolean muteLog, boolean muteException) {
+		
+		if(json == null || out == null) {
+			if(!muteException) {
+				throw new NullPointerException(NULL_JSON_MESSAGE);
 			}
+			return false;
+		}
+		
+		RepairEngineEnum engine = this.repairEngine;
+		CustomJSONRepairMetrics metrics = this.repairMetrics;
+		long startTime = metrics == CustomJSONRepairMetrics.NO_OP ? 0 : System.nanoTime();
+		CharSequence text = new CustomJSONByteSequence(json);
+		
+		if(CustomJSONValidatorFiltersService.isValidJson(text)) {
+			if(!muteLog) logInfo("Valid json: ", text);
+			out.put(json.duplicate());
+			recordRepair(metrics, engine, RepairStatusEnum.VALID, startTime, text.length(), text.length());
+			return true;
+		}
+		
+		if(!muteLog) logInfo("Invalid json: ", text);
+		
+		//a full buffer throws a BufferOverflowException, that is not recorded: the caller can repair it again into a larger buffer
+		int start = out.position();
+		List<CustomJSONRepairError> errors = new ArrayList<>(1);
+		boolean repaired = CustomJSONRepairEngineService.repair(json, out, engine == RepairEngineEnum.TYPED_TOKENIZER, errors);
+		
+		ByteBuffer repairedJson = out.duplicate();
+		((Buffer) repairedJson).flip();
+		((Buffer) repairedJson).position(start);
+		
+		CustomJSONRepairError error = errors.isEmpty() ? null : errors.get(0);
+		
+		if(repaired && error == null) {
+			CharSequence repairedText = new CustomJSONByteSequence(repairedJson);
+			int offset = CustomJSONValidatorFiltersService.getInvalidJsonOffset(repairedText);
 			
-			Pattern pattern = Pattern.compile(stringToBeAnalyzed, Pattern.LITERAL);
-			replaceStringBasedOnAPattern(builderModified, pattern, DelimitersEnum.EMPTY_STRING.getValue());
+			if(offset < 0) {
+				if(!muteLog) logInfo("Valid json: ", repairedText);
+				recordRepair(metrics, engine, RepairStatusEnum.REPAIRED, startTime, text.length(), repairedJson.remaining());
+				return true;
+			}
 			
+			error = CustomJSONRepairError.at(RepairErrorEnum.INVALID_REPAIRED_JSON, repairedText, offset, INVALID_JSON_MESSAGE);
+		}
+		
+		((Buffer) out).position(start);
+		recordRepair(metrics, engine, RepairStatusEnum.INVALID, startTime, text.length(), 0);
+		reportError(error != null ? error : new CustomJSONRepairError(RepairErrorEnum.INVALID_REPAIRED_JSON, null, INVALID_JSON_MESSAGE), 
+				muteLog, muteException);
+		
+		return false;
+	}
+	
+	/**
+	 * Method that returns the repaired text of a JSON as a strict JSON, checked without building a tree, 
+	 * or null if it could not be repaired
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @param out
+	 * @param muteLog
+	 * @param muteException
+	 * @return String
+	 */
+	private String getRepairedText(CharSequence json, Object out, boolean muteLog, boolean muteException) {
+		
+		if(json == null || out == null) {
+			if(!muteException) {
+				throw new NullPointerException(NULL_JSON_MESSAGE);
+			}
+			return null;
+		}
+		
+		RepairEngineEnum engine = this.repairEngine;
+		CustomJSONRepairMetrics metrics = this.repairMetrics;
+		long start = metrics == CustomJSONRepairMetrics.NO_OP ? 0 : System.nanoTime();
+		String text = json.toString();
+		
+		if(CustomJSONValidatorFiltersService.isValidJson(text)) {
+			if(!muteLog) logInfo("Valid json: ", text);
+			recordRepair(metrics, engine, RepairStatusEnum.VALID, start, text.length(), text.length());
+			return text;
+		}
+		
+		if(!muteLog) logInfo("Invalid json: ", text);
+		
+		List<CustomJSONRepairError> errors = new ArrayList<>(1);
+		String repairedJson = repairInvalidJson(engine, this.repairProfile, this.repairPlanCache, metrics, text, errors);
+		CustomJSONRepairError error = errors.isEmpty() ? checkRepairedJson(repairedJson, INVALID_JSON_MESSAGE) : errors.get(0);
+		
+		if(error == null && !CustomJSONValidatorFiltersService.isValidJson(repairedJson)) {
 			try {
-				pattern = Pattern.compile(previousField);
-				replaceStringBasedOnAPattern(builderModified, pattern, stringBuilderToBeReplaced.toString());
-			}catch (PatternSyntaxException e){
-				splitPatternToNearowTheSearch(builderModified, previousField, stringBuilderToBeReplaced);
+				repairedJson = toStrictJson(repairedJson);
+			}catch(IOException | IllegalStateException e) {
+				error = new CustomJSONRepairError(RepairErrorEnum.INVALID_REPAIRED_JSON, null, INVALID_JSON_MESSAGE);
 			}
-			
-			pattern = Pattern.compile(DelimitersEnum.DOUBLE_COMMA.getValue());
-			replaceStringBasedOnAPattern(builderModified, pattern, DelimitersEnum.COMMA.getValue());
 		}
 		
-		return isClean;
+		if(error != null) {
+			recordRepair(metrics, engine, RepairStatusEnum.INVALID, start, text.length(), 0);
+			reportError(error, muteLog, muteException);
+			return null;
+		}
+		
+		if(!muteLog) logInfo("Valid json: ", repairedJson);
+		recordRepair(metrics, engine, RepairStatusEnum.REPAIRED, start, text.length(), repairedJson.length());
+		
+		return repairedJson;
 	}
-
+	
 	/**
-	 * Method to cut a string to approximate the search and avoid cases of PatternSyntaxException
+	 * Method that rewrites a JSON read by the lenient rules of the parser (unquoted or single-quoted keys and values, 
+	 * ";" between members, empty values in arrays) as a strict JSON, token by token and without building a tree. 
+	 * The result is the same text of the tree that the parser builds from the JSON.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 01/03/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param builderModified
-	 * @param previousField
-	 * @param stringBuilderToBeReplaced
+	 * @param lenientJson
+	 * @return String
+	 * @throws IOException
 	 */
-	private static void splitPatternToNearowTheSearch(StringBuilder builderModified, String previousField,
-			StringBuilder stringBuilderToBeReplaced) {
+	private static String toStrictJson(String lenientJson) throws IOException {
 		
-		String[] patternSplit = previousField.split(DelimitersEnum.COLON.getValue());
-		String[] stringBuilderReplaceToSplit = stringBuilderToBeReplaced.toString().split(DelimitersEnum.COLON.getValue());
+		StringWriter out = new StringWriter(lenientJson.length() + (lenientJson.length() >> 3));
+		JsonReader reader = new JsonReader(new StringReader(lenientJson));
+		JsonWriter writer = new JsonWriter(out);
+		reader.setLenient(true);
+		int depth = 0;
+		
+		do {
+			switch(reader.peek()) {
+				case BEGIN_OBJECT:
+					reader.beginObject();
+					writer.beginObject();
+					depth++;
+					break;
+				case END_OBJECT:
+					reader.endObject();
+					writer.endObject();
+					depth--;
+					break;
+				case BEGIN_ARRAY:
+					reader.beginArray();
+					writer.beginArray();
+					depth++;
+					break;
+				case END_ARRAY:
+					reader.endArray();
+					writer.endArray();
+					depth--;
+					break;
+				case NAME:
+					writer.name(reader.nextName());
+					break;
+				case STRING:
+					writer.value(reader.nextString());
+					break;
+				case NUMBER:
+					//the number is written as it was read, as the parser keeps it
+					writer.jsonValue(reader.nextString());
+					break;
+				case BOOLEAN:
+					writer.value(reader.nextBoolean());
+					break;
+				case NULL:
+					reader.nextNull();
+					writer.nullValue();
+					break;
+				default:
+					throw new IllegalStateException("Unexpected end of the repaired JSON.");
+			}
+		}while(depth > 0);
 		
-		Pattern pattern = Pattern.compile(patternSplit[patternSplit.length-1]);
-		replaceStringBasedOnAPattern(builderModified, pattern, stringBuilderReplaceToSplit[stringBuilderReplaceToSplit.length-1]);
+		writer.flush();
+		return out.toString();
 	}
 	
-
 	/**
-	 * Method that replaces a string based on a pattern
+	 * Method that records a call in the metrics, with the time elapsed since its start
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 17/02/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param builderModified
-	 * @param pattern
-	 * @param replacement
+	 * @param metrics
+	 * @param engine
+	 * @param status
+	 * @param start the System.nanoTime() of the start of the call
+	 * @param inputLength
+	 * @param outputLength
 	 */
-	private static void replaceStringBasedOnAPattern(StringBuilder builderModified, Pattern pattern, String replacement) {
+	private static void recordRepair(CustomJSONRepairMetrics metrics, RepairEngineEnum engine, RepairStatusEnum status, long start, 
+			long inputLength, long outputLength) {
 		
-		Matcher matcher = pattern.matcher(builderModified);
-		int start = 0;
-		while (matcher.find(start)) {
-			builderModified.replace(matcher.start(), matcher.end(), replacement);
+		if(metrics != CustomJSONRepairMetrics.NO_OP) {
+			metrics.recordRepair(engine, status, System.nanoTime() - start, inputLength, outputLength);
 		}
 	}
 	
 	/**
-	 * Method that checks JSON validity and format if needed.
-	 * 
+	 * Method that reads only some fields of a JSON, valid or not, without repairing or parsing the whole document.
+	 * The fields not requested are skipped counting their brackets, and each value found is repaired alone with the
+	 * tokenizer rules. The result has one member per path found: the value itself, or an array with all the values
+	 * of a path with [*].
+	 *
 	 * @author Mariana Azevedo
-	 * @since 17/02/2019
-	 * 
+	 * @since 17/10/2026
+	 *
 	 * @param json
+	 * @param jsonPaths paths as id, payment.value or items[*].id
+	 * @param muteLog
+	 * @param muteException
+	 * @return JsonObject
+	 */
+	public JsonObject project(final String json, String[] jsonPaths, boolean muteLog, boolean muteException) {
+
+		if(json == null || jsonPaths == null) {
+			if(!muteException) {
+				throw new NullPointerException(NULL_JSON_MESSAGE);
+			}
+			return null;
+		}
+
+		final CustomJSONPath[] paths = new CustomJSONPath[jsonPaths.length];
+		for(int i = 0; i < jsonPaths.length; i++) paths[i] = new CustomJSONPath(jsonPaths[i]);
+
+		final List<List<String>> values = new ArrayList<>(paths.length);
+		for(int i = 0; i < paths.length; i++) values.add(new ArrayList<String>());
+
+		new CustomJSONPathScanner(json, paths, true, new CustomJSONPathScanner.Listener() {
+			@Override
+			public void onValue(int path, int memberStart, int valueStart, int valueEnd, int memberEnd) {
+				if(paths[path].isMultiValued() || values.get(path).isEmpty()) {
+					values.get(path).add(json.substring(valueStart, valueEnd));
+				}
+			}
+		}).scan();
+
+		boolean valid = CustomJSONValidatorFiltersService.isValidJson(json);
+		boolean typedValues = repairEngine == RepairEngineEnum.TYPED_TOKENIZER;
+		JsonObject projection = new JsonObject();
+
+		for(int i = 0; i < paths.length; i++) {
+
+			List<String> rawValues = values.get(i);
+
+			if(paths[i].isMultiValued()) {
+				JsonArray array = new JsonArray(rawValues.size());
+				for(String rawValue : rawValues) {
+					JsonElement value = projectValue(rawValue, valid, typedValues, muteLog, muteException);
+					if(value != null) array.add(value);
+				}
+				projection.add(paths[i].getExpression(), array);
+			}else if(!rawValues.isEmpty()) {
+				JsonElement value = projectValue(rawValues.get(0), valid, typedValues, muteLog, muteException);
+				if(value != null) projection.add(paths[i].getExpression(), value);
+			}
+		}
+
+		if(!muteLog) logInfo("Projected json: ", projection);
+
+		return projection;
+	}
+
+	/**
+	 * Method that parses a value read by the projection. The value of an invalid JSON is repaired as the only
+	 * member of an object, so that the tokenizer applies the same rules it applies inside the whole document.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param rawValue
+	 * @param valid
+	 * @param typedValues
 	 * @param muteLog
 	 * @param muteException
-	 * you
 	 * @return JsonElement
-	 * @throws IOException
 	 */
-	public JsonElement checkValidityAndFormatObject(Object json, boolean muteLog, boolean muteException) throws IOException {
-		
-		String jsonToTest = null;
-		BufferedReader reader = null;
+	private static JsonElement projectValue(String rawValue, boolean valid, boolean typedValues, boolean muteLog, 
+			boolean muteException) {
+
+		if(valid) return JsonParser.parseString(rawValue);
+
+		List<CustomJSONRepairError> errors = new ArrayList<>(1);
+		String repaired = CustomJSONRepairEngineService.repair("{value:" + rawValue + "}", typedValues, errors);
 		
-		if(json instanceof BufferedReader){
-			reader = (BufferedReader) json;
-			json = reader.readLine();
+		if(!errors.isEmpty()) {
+			if(!muteException) throw errors.get(0).toException();
+			return null;
 		}
 		
-		if(json == null) {
+		if(CustomJSONValidatorFiltersService.getUnparsableJsonOffset(repaired) >= 0) {
 			if(!muteException) {
-				throw new NullPointerException("Object to validated is null.");
-			}else {
-				this.customJson.setValidJson(null);
-				return customJson.getValidJson();
+				throw new JsonParseException(INVALID_JSON_MESSAGE);
 			}
-		}
-		
-		if(!customJson.isValidJson(json, muteLog)) {
-			
-			jsonToTest = getInvalidJsonToFormat(json.toString(), muteException);
-			customJson.parseJSONObject(jsonToTest, muteException);
-			
-			if(reader != null){
-				reader.close();
+			if(!muteLog && logger.isEnabledFor(Level.WARN)) {
+				logger.warn(CustomJSONLogPreview.of(INVALID_JSON_MESSAGE + " Value: ", rawValue));
 			}
+			return null;
 		}
+
+		JsonElement root = JsonParser.parseString(repaired);
+		return root.isJsonObject() ? root.getAsJsonObject().get("value") : null;
+	}
+
+	/**
+	 * Method that checks JSON validity and format if needed.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/02/2019
+	 * 
+	 * @param json
+	 * @param muteLog
+	 * @param muteException
+	 * you
+	 * @return JsonElement
+	 * @throws IOException
+	 */
+	public JsonElement checkValidityAndFormatObject(Object json, boolean muteLog, boolean muteException) throws IOException {
 		
-		if(this.customJson.getValidJson() != null) {
-			if(!muteLog) logger.info("Valid json: " + this.customJson);
-		}else {
-			if(!muteLog) 
-				logger.warn("JsonParseException: JSON with more invalid characters than commas and quotes on keys and values.");
-		}
+		CustomJSONRepairResult result = repair(json, muteLog, muteException);
+		customJson.setValidJson(result.getValidJson());
 		
 		return customJson.getValidJson();
 	}
@@ -370,5 +1012,130 @@ public class CustomJSONFormatterService {
 	public CustomJSON getCustomJson() {
 		return customJson;
 	}
+	
+	/**
+	 * Method that return the engine used to repair invalid JSONs
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return repairEngine
+	 */
+	public RepairEngineEnum getRepairEngine() {
+		return repairEngine;
+	}
+
+	/**
+	 * Method that return the cache of repaired JSONs, or null if the results are not cached
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return repairCache
+	 */
+	public CustomJSONRepairCache getRepairCache() {
+		return repairCache;
+	}
+
+	/**
+	 * Method that set a cache, that can be shared by many formatters, to keep the results of the strings repaired. 
+	 * A null cache disables it.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param repairCache
+	 */
+	public void setRepairCache(CustomJSONRepairCache repairCache) {
+		this.repairCache = repairCache;
+	}
+
+	/**
+	 * Method that return the cache of repair plans of the legacy engine, or null if the plans are not learned
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return repairPlanCache
+	 */
+	public CustomJSONRepairPlanCache getRepairPlanCache() {
+		return repairPlanCache;
+	}
+
+	/**
+	 * Method that set a cache, that can be shared by many formatters, to learn the patterns of the legacy engine 
+	 * needed by each shape of JSON. A null cache disables it.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param repairPlanCache
+	 */
+	public void setRepairPlanCache(CustomJSONRepairPlanCache repairPlanCache) {
+		this.repairPlanCache = repairPlanCache;
+	}
+
+	/**
+	 * Method that return the metrics of the repairs, CustomJSONRepairMetrics.NO_OP if they are not recorded
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return repairMetrics
+	 */
+	public CustomJSONRepairMetrics getRepairMetrics() {
+		return repairMetrics;
+	}
+
+	/**
+	 * Method that set the metrics, that can be shared by many formatters, to record the latency, the sizes and the
+	 * status of each repair, and the stages of the legacy engine that changed the JSONs. A null metrics disables them.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param repairMetrics
+	 */
+	public void setRepairMetrics(CustomJSONRepairMetrics repairMetrics) {
+		this.repairMetrics = repairMetrics == null ? CustomJSONRepairMetrics.NO_OP : repairMetrics;
+	}
+
+	/**
+	 * Method that return the profile with the rules applied by the legacy engine
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return repairProfile
+	 */
+	public CustomJSONRepairProfile getRepairProfile() {
+		return repairProfile;
+	}
+
+	/**
+	 * Method that set the profile with the rules applied by the legacy engine, usually a reduced profile for the 
+	 * producer of the JSONs. A null profile restores CustomJSONRepairProfile.DEFAULT. The results and the plans are
+	 * cached by profile, so the results repaired with the previous profile are not returned.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param repairProfile
+	 */
+	public void setRepairProfile(CustomJSONRepairProfile repairProfile) {
+		this.repairProfile = repairProfile == null ? CustomJSONRepairProfile.DEFAULT : repairProfile;
+	}
+
+	/**
+	 * Method that set the engine used to repair invalid JSONs
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param repairEngine
+	 */
+	public void setRepairEngine(RepairEngineEnum repairEngine) {
+		this.repairEngine = repairEngine;
+	}
 
 }
@@ -0,0 +1,183 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairPatternEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+
+/**
+ * Class that keeps the metrics of the repairs in memory, in atomic counters, so it can be shared by many formatters
+ * and threads. The latencies are kept in a histogram of powers of two: the bucket b counts the calls that took
+ * from 2^(b-1) to 2^b - 1 nanoseconds, so a call is recorded by a few increments, without locks or allocation.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONInMemoryRepairMetrics implements CustomJSONRepairMetrics {
+
+	private static final int LATENCY_BUCKETS = Long.SIZE;
+
+	private final AtomicLongArray latencies = new AtomicLongArray(LATENCY_BUCKETS);
+	private final AtomicLongArray statuses = new AtomicLongArray(RepairStatusEnum.values().length);
+	private final AtomicLongArray engines = new AtomicLongArray(RepairEngineEnum.values().length);
+	private final AtomicLongArray stages = new AtomicLongArray(RepairStageEnum.values().length);
+	private final AtomicLongArray patterns = new AtomicLongArray(RepairPatternEnum.values().length);
+
+	private final AtomicLong nanos = new AtomicLong();
+	private final AtomicLong inputLength = new AtomicLong();
+	private final AtomicLong outputLength = new AtomicLong();
+
+	@Override
+	public void recordRepair(RepairEngineEnum engine, RepairStatusEnum status, long nanos, long inputLength, long outputLength) {
+
+		long elapsed = Math.max(nanos, 0);
+
+		latencies.incrementAndGet(Math.min(LATENCY_BUCKETS - Long.numberOfLeadingZeros(elapsed), LATENCY_BUCKETS - 1));
+		statuses.incrementAndGet(status.ordinal());
+		if(engine != null) engines.incrementAndGet(engine.ordinal());
+
+		this.nanos.addAndGet(elapsed);
+		if(inputLength > 0) this.inputLength.addAndGet(inputLength);
+		if(outputLength > 0) this.outputLength.addAndGet(outputLength);
+	}
+
+	@Override
+	public void recordStage(RepairStageEnum stage, int count) {
+		stages.addAndGet(stage.ordinal(), count);
+	}
+
+	@Override
+	public void recordPattern(RepairPatternEnum pattern) {
+		patterns.incrementAndGet(pattern.ordinal());
+	}
+
+	/**
+	 * Method that returns the number of calls recorded
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return long
+	 */
+	public long getCount() {
+		long count = 0;
+		for(int i = 0; i < statuses.length(); i++) count += statuses.get(i);
+		return count;
+	}
+
+	/**
+	 * Method that returns the number of calls with a status: valid on arrival, repaired or rejected
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param status
+	 * @return long
+	 */
+	public long getCount(RepairStatusEnum status) {
+		return statuses.get(status.ordinal());
+	}
+
+	public long getCount(RepairEngineEnum engine) {
+		return engines.get(engine.ordinal());
+	}
+
+	public long getCount(RepairStageEnum stage) {
+		return stages.get(stage.ordinal());
+	}
+
+	public long getCount(RepairPatternEnum pattern) {
+		return patterns.get(pattern.ordinal());
+	}
+
+	public long getTotalNanos() {
+		return nanos.get();
+	}
+
+	public long getInputLength() {
+		return inputLength.get();
+	}
+
+	public long getOutputLength() {
+		return outputLength.get();
+	}
+
+	/**
+	 * Method that returns a copy of the latency histogram, where the bucket b counts the calls
+	 * that took from 2^(b-1) to 2^b - 1 nanoseconds
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return long[]
+	 */
+	public long[] getLatencyHistogram() {
+		long[] histogram = new long[LATENCY_BUCKETS];
+		for(int i = 0; i < LATENCY_BUCKETS; i++) histogram[i] = latencies.get(i);
+		return histogram;
+	}
+
+	/**
+	 * Method that returns an upper bound of a percentile (from 0 to 100) of the latencies: the largest
+	 * latency of the bucket where the percentile is, that is at most twice the exact percentile
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param percentile
+	 * @return long nanoseconds, or 0 if nothing was recorded
+	 */
+	public long getLatencyPercentile(double percentile) {
+
+		if(percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("The percentile must be between 0 and 100.");
+		}
+
+		long[] histogram = getLatencyHistogram();
+		long count = 0;
+		for(long calls : histogram) count += calls;
+		if(count == 0) return 0;
+
+		long rank = Math.max(1, (long) Math.ceil(count * percentile / 100));
+		long calls = 0;
+
+		for(int bucket = 0; bucket < LATENCY_BUCKETS; bucket++) {
+			calls += histogram[bucket];
+			if(calls >= rank) return bucket == LATENCY_BUCKETS - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+		}
+
+		return Long.MAX_VALUE;
+	}
+
+	/**
+	 * Method that clears all metrics. The calls recorded at the same time can be partially cleared.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	public void reset() {
+		clear(latencies);
+		clear(statuses);
+		clear(engines);
+		clear(stages);
+		clear(patterns);
+		nanos.set(0);
+		inputLength.set(0);
+		outputLength.set(0);
+	}
+
+	private static void clear(AtomicLongArray counters) {
+		for(int i = 0; i < counters.length(); i++) counters.set(i, 0);
+	}
+
+	@Override
+	public String toString() {
+		return "CustomJSONInMemoryRepairMetrics [valid=" + getCount(RepairStatusEnum.VALID) + ", repaired=" + getCount(RepairStatusEnum.REPAIRED)
+			+ ", rejected=" + getCount(RepairStatusEnum.INVALID) + ", p50=" + getLatencyPercentile(50) + "ns, p99=" + getLatencyPercentile(99)
+			+ "ns, inputLength=" + inputLength + ", outputLength=" + outputLength + "]";
+	}
+
+}
@@ -0,0 +1,524 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.log4j.Logger;
+
+import com.google.gson.JsonParseException;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairError;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+
+/**
+ * Class that repairs a single large JSON document (as a root array of records, or an object with large arrays) in
+ * parallel. The document is scanned once counting its braces and brackets, as the filters of the validator do, to find
+ * the commas between the elements of the root. Groups of elements are repaired by the tokenizer engine on a ForkJoinPool
+ * and joined in the order of the input. An element larger than a group, as a member with a large array, is split the same way.
+ *
+ * Only the commas after a nested object or array are split points, because the tokenizer can read a comma after a scalar
+ * as part of the value. The documents smaller than a group, or whose braces and brackets do not match, are repaired by a
+ * single thread, so the result is always the same of the tokenizer engine.
+ *
+ * The pool is created once by the service and shut down by close(), or is given by the caller, who shuts it down.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public class CustomJSONParallelRepairService implements Closeable {
+
+	private static final Logger logger = Logger.getLogger(CustomJSONParallelRepairService.class.getName());
+	private static final String INVALID_JSON_MESSAGE = "JsonParseException: JSON with more invalid characters than commas and quotes on keys and values.";
+
+	private static final int DEFAULT_SEGMENT_SIZE = 1 << 20;
+
+	private final CustomJSONFormatterService formatter;
+	private final ForkJoinPool pool;
+	private final boolean ownPool;
+	private final int segmentSize;
+	private final AtomicLong wholeDocumentRepairs = new AtomicLong();
+
+	public CustomJSONParallelRepairService(CustomJSONFormatterService formatter, int threads) {
+		this(formatter, threads, DEFAULT_SEGMENT_SIZE);
+	}
+
+	public CustomJSONParallelRepairService(CustomJSONFormatterService formatter, int threads, int segmentSize) {
+		if(threads < 1 || segmentSize < 1) {
+			throw new IllegalArgumentException("The number of threads and the segment size must be greater than zero.");
+		}
+		this.formatter = formatter;
+		this.pool = new ForkJoinPool(threads);
+		this.ownPool = true;
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Constructor of a service that repairs the segments on a pool of the caller. The pool is not shut down by close().
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param formatter
+	 * @param pool
+	 * @param segmentSize
+	 */
+	public CustomJSONParallelRepairService(CustomJSONFormatterService formatter, ForkJoinPool pool, int segmentSize) {
+		if(pool == null || segmentSize < 1) {
+			throw new IllegalArgumentException("The pool can't be null and the segment size must be greater than zero.");
+		}
+		this.formatter = formatter;
+		this.pool = pool;
+		this.ownPool = false;
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Method that repairs a JSON document and appends the repaired text to an Appendable. A valid JSON is appended
+	 * as it is, any other is repaired by the tokenizer engine (typed, if it is the engine selected in the formatter),
+	 * in segments of about segmentSize characters, and checked as a stream of tokens.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @param out
+	 * @param muteLog
+	 * @param muteException
+	 * @return boolean true if a valid JSON was written
+	 * @throws IOException
+	 */
+	public boolean repair(CharSequence json, Appendable out, boolean muteLog, boolean muteException) throws IOException {
+
+		if(json == null || out == null) {
+			if(!muteException) {
+				throw new NullPointerException("Object to validated is null.");
+			}
+			return false;
+		}
+
+		String text = json.toString();
+
+		if(CustomJSONValidatorFiltersService.isValidJson(text)) {
+			if(!muteLog) logger.info("Valid json with " + text.length() + " characters.");
+			out.append(text);
+			return true;
+		}
+
+		boolean typedValues = formatter.getRepairEngine() == RepairEngineEnum.TYPED_TOKENIZER;
+		String repairedJson = text.length() > segmentSize ? repairInParallel(text, typedValues) : null;
+
+		//a document that could not be split, or whose segments were not repaired, is repaired as a whole
+		if(repairedJson == null) {
+			List<CustomJSONRepairError> errors = new ArrayList<>(1);
+			repairedJson = CustomJSONRepairEngineService.repair(text, typedValues, errors);
+
+			if(!errors.isEmpty() || !CustomJSONValidatorFiltersService.isParsableJson(repairedJson)) {
+				if(!muteException) {
+					throw errors.isEmpty() ? new JsonParseException(INVALID_JSON_MESSAGE) : errors.get(0).toException();
+				}
+				if(!muteLog) logger.warn(INVALID_JSON_MESSAGE);
+				return false;
+			}
+		}
+
+		if(!muteLog) logger.info("Repaired json with " + repairedJson.length() + " characters.");
+
+		out.append(repairedJson);
+		return true;
+	}
+
+	/**
+	 * Method that repairs the root of a document in parallel, or returns null if it can not be split or the
+	 * joined segments are not a valid JSON. The documents split in vain are counted and logged on debug.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @param typedValues
+	 * @return String
+	 */
+	private String repairInParallel(String json, boolean typedValues) {
+
+		int open = skipWhitespaces(json, 0, json.length());
+		if(open == json.length() || !isOpening(json.charAt(open))) return null;
+
+		SplitPoints splits = new SplitPoints();
+		int close = scanContainer(json, open, splits);
+
+		//content after the root is kept by the tokenizer, so only a root followed by whitespaces is split
+		if(close < 0 || skipWhitespaces(json, close + 1, json.length()) != json.length()) return null;
+
+		String repairedJson = pool.invoke(new RepairContainerTask(json, open, close, splits, segmentSize, typedValues));
+		if(repairedJson != null && CustomJSONValidatorFiltersService.isParsableJson(repairedJson)) return repairedJson;
+
+		long count = wholeDocumentRepairs.incrementAndGet();
+		if(logger.isDebugEnabled()) {
+			logger.debug("Segments of a json with " + json.length() + " characters not repaired, repairing it as a whole ("
+					+ count + " documents so far).");
+		}
+		return null;
+	}
+
+	/**
+	 * Method that returns how many documents were split and repaired in parallel in vain, and then repaired again
+	 * as a whole by the calling thread
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return long
+	 */
+	public long getWholeDocumentRepairs() {
+		return wholeDocumentRepairs.get();
+	}
+
+	/**
+	 * Method that shuts down the pool created by the service. A pool given by the caller is left running.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	@Override
+	public void close() {
+		if(ownPool) pool.shutdown();
+	}
+
+	/**
+	 * Method that reads a container from its opening to its closing, counting braces and brackets as the tokenizer
+	 * reads them: a brace or a bracket opens a container only at the start of a value, and the quoted strings are skipped.
+	 * The commas of the container that come after a nested container are added to the split points.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @param open
+	 * @param splits
+	 * @return int the index of the closing of the container, or -1 if it is not closed or is closed by the wrong character
+	 */
+	private static int scanContainer(CharSequence json, int open, SplitPoints splits) {
+
+		char[] containers = new char[16];
+		int depth = 0;
+		char previous = ',';
+		boolean afterContainer = false;
+		int length = json.length();
+
+		for(int i = open; i < length; i++) {
+
+			char c = json.charAt(i);
+			if(c <= ' ') continue;
+
+			boolean valueStart = previous == '{' || previous == '[' || previous == ',' || previous == ':';
+
+			switch(c) {
+				case '"':
+					if(valueStart) {
+						i = skipString(json, i, length);
+						if(i < 0) return -1;
+					}
+					afterContainer = false;
+					break;
+				case '{':
+				case '[':
+					if(valueStart) {
+						if(depth == containers.length) containers = Arrays.copyOf(containers, depth << 1);
+						containers[depth++] = c;
+					}else {
+						//a brace or a bracket in the middle of a scalar is a character of the scalar
+						c = 'a';
+					}
+					afterContainer = false;
+					break;
+				case '}':
+				case ']':
+					//an array closed by a brace is left to the tokenizer as a whole
+					if(depth == 0 || containers[depth - 1] != (c == '}' ? '{' : '[')) return -1;
+					if(--depth == 0) return i;
+					afterContainer = depth == 1;
+					break;
+				case ',':
+					if(afterContainer) splits.add(i);
+					afterContainer = false;
+					break;
+				default:
+					afterContainer = false;
+					break;
+			}
+
+			previous = c;
+		}
+
+		return -1;
+	}
+
+	private static int skipString(CharSequence json, int start, int length) {
+		for(int i = start + 1; i < length; i++) {
+			char c = json.charAt(i);
+			if(c == '\\') {
+				i++;
+			}else if(c == '"') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static int skipWhitespaces(CharSequence json, int i, int end) {
+		while(i < end && json.charAt(i) <= ' ') i++;
+		return i;
+	}
+
+	private static boolean isOpening(char c) {
+		return c == '{' || c == '[';
+	}
+
+	private static char getClosing(char opening) {
+		return opening == '{' ? '}' : ']';
+	}
+
+	/**
+	 * Method that repairs a segment of a container (followed by a suffix) between the opening and the closing
+	 * of the container, returning the repaired segment without them, or null if it was not repaired
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param container
+	 * @param json
+	 * @param start
+	 * @param end
+	 * @param suffix
+	 * @param typedValues
+	 * @return String
+	 */
+	private static String repairSegment(char container, String json, int start, int end, String suffix, boolean typedValues) {
+
+		String repaired = CustomJSONRepairEngineService.repair(new StringBuilder(end - start + suffix.length() + 2)
+				.append(container).append(json, start, end).append(suffix).append(getClosing(container)).toString(), typedValues, null);
+
+		int length = repaired.length();
+		if(length < 2 || repaired.charAt(0) != container || repaired.charAt(length - 1) != getClosing(container)) return null;
+
+		return repaired.substring(1, length - 1);
+	}
+
+	/**
+	 * Class that keeps the indexes of the split points of a container
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class SplitPoints {
+
+		private int[] indexes = new int[64];
+		private int size;
+
+		void add(int index) {
+			if(size == indexes.length) indexes = Arrays.copyOf(indexes, size << 1);
+			indexes[size++] = index;
+		}
+
+		int get(int i) {
+			return indexes[i];
+		}
+
+		int size() {
+			return size;
+		}
+	}
+
+	/**
+	 * Task that repairs a container, forking a task for each group of elements
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class RepairContainerTask extends RecursiveTask<String> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String json;
+		private final int open;
+		private final int close;
+		private final SplitPoints splits;
+		private final int segmentSize;
+		private final boolean typedValues;
+
+		RepairContainerTask(String json, int open, int close, SplitPoints splits, int segmentSize, boolean typedValues) {
+			this.json = json;
+			this.open = open;
+			this.close = close;
+			this.splits = splits;
+			this.segmentSize = segmentSize;
+			this.typedValues = typedValues;
+		}
+
+		@Override
+		protected String compute() {
+
+			char container = json.charAt(open);
+			List<ForkJoinTask<String>> tasks = new ArrayList<>();
+			int groupStart = open + 1;
+
+			for(int element = 0; element <= splits.size(); element++) {
+
+				int elementStart = element == 0 ? open + 1 : splits.get(element - 1) + 1;
+				int end = element < splits.size() ? splits.get(element) : close;
+
+				if(end - groupStart < segmentSize && element < splits.size()) continue;
+
+				ForkJoinTask<String> task = null;
+				if(groupStart == elementStart && end - elementStart > segmentSize) task = splitElement(container, elementStart, end);
+				if(task == null && !isEmptyGroup(groupStart, end)) task = new RepairSegmentTask(json, container, groupStart, end, typedValues);
+				if(task != null) tasks.add(task);
+
+				groupStart = end + 1;
+			}
+
+			invokeAll(tasks);
+
+			StringBuilder builder = new StringBuilder(close - open + (close - open >> 2));
+			builder.append(container);
+
+			for(ForkJoinTask<String> task : tasks) {
+				String repaired = task.join();
+				if(repaired == null) return null;
+				if(repaired.isEmpty()) continue;
+				if(builder.length() > 1) builder.append(',');
+				builder.append(repaired);
+			}
+
+			return builder.append(getClosing(container)).toString();
+		}
+
+		/**
+		 * Method that returns a task that repairs an element whose value is a container in parallel,
+		 * or null if the element is not a single container (or a key and a container, in an object)
+		 *
+		 * @author Mariana Azevedo
+		 * @since 17/10/2026
+		 *
+		 * @param container
+		 * @param start
+		 * @param end
+		 * @return ForkJoinTask
+		 */
+		private ForkJoinTask<String> splitElement(char container, int start, int end) {
+
+			int i = skipWhitespaces(json, start, end);
+
+			if(container == '{') {
+				if(i < end && json.charAt(i) == '"') {
+					i = skipString(json, i, end);
+					if(i < 0) return null;
+					i++;
+				}else {
+					while(i < end && ":,{}[]".indexOf(json.charAt(i)) < 0) i++;
+				}
+				i = skipWhitespaces(json, i, end);
+				if(i == end || json.charAt(i) != ':') return null;
+				i = skipWhitespaces(json, i + 1, end);
+			}
+
+			if(i == end || !isOpening(json.charAt(i))) return null;
+
+			SplitPoints valueSplits = new SplitPoints();
+			int valueClose = scanContainer(json, i, valueSplits);
+			if(valueClose < 0 || valueClose >= end || skipWhitespaces(json, valueClose + 1, end) != end) return null;
+
+			return new RepairMemberTask(json, container, start, i,
+					new RepairContainerTask(json, i, valueClose, valueSplits, segmentSize, typedValues), typedValues);
+		}
+
+		private boolean isEmptyGroup(int start, int end) {
+			for(int i = start; i < end; i++) {
+				char c = json.charAt(i);
+				if(c > ' ' && c != ',') return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Task that repairs the key of a member (or the blanks before an element) while its container value is repaired
+	 * by another task. The key is repaired with an empty container in place of the value, that is removed after.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class RepairMemberTask extends RecursiveTask<String> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String json;
+		private final char container;
+		private final int start;
+		private final int valueStart;
+		private final RepairContainerTask value;
+		private final boolean typedValues;
+
+		RepairMemberTask(String json, char container, int start, int valueStart, RepairContainerTask value, boolean typedValues) {
+			this.json = json;
+			this.container = container;
+			this.start = start;
+			this.valueStart = valueStart;
+			this.value = value;
+			this.typedValues = typedValues;
+		}
+
+		@Override
+		protected String compute() {
+
+			value.fork();
+
+			char valueContainer = json.charAt(valueStart);
+			String emptyValue = new String(new char[] {valueContainer, getClosing(valueContainer)});
+			String key = repairSegment(container, json, start, valueStart, emptyValue, typedValues);
+
+			String repairedValue = value.join();
+			if(key == null || repairedValue == null || !key.endsWith(emptyValue)) return null;
+
+			return key.substring(0, key.length() - emptyValue.length()) + repairedValue;
+		}
+	}
+
+	/**
+	 * Task that repairs a group of elements of a container with the tokenizer engine
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class RepairSegmentTask extends RecursiveTask<String> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final String json;
+		private final char container;
+		private final int start;
+		private final int end;
+		private final boolean typedValues;
+
+		RepairSegmentTask(String json, char container, int start, int end, boolean typedValues) {
+			this.json = json;
+			this.container = container;
+			this.start = start;
+			this.end = end;
+			this.typedValues = typedValues;
+		}
+
+		@Override
+		protected String compute() {
+			return repairSegment(container, json, start, end, "", typedValues);
+		}
+	}
+
+}
@@ -0,0 +1,334 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONPath;
+
+/**
+ * Class that reads a JSON, valid or not, only once and reports the values of a list of paths. It keeps
+ * a stack with the open objects and arrays and, for each level, the paths that still match. A value
+ * that is not in any path is skipped counting its keys and brackets, without looking at its members.
+ * The commas inside the values of an object are handled with the same rules of the repair engine.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+final class CustomJSONPathScanner {
+
+	/**
+	 * Interface that receives each value found for a path, with the offsets of the key:value pair
+	 * (memberStart and memberEnd, that includes the comma after the pair) and of the value.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	interface Listener {
+
+		void onValue(int path, int memberStart, int valueStart, int valueEnd, int memberEnd);
+
+	}
+
+	private static final int MAX_PATHS = Long.SIZE;
+
+	private final CharSequence json;
+	private final int length;
+	private final CustomJSONPath[] paths;
+	private final boolean descendIntoValues;
+	private final Listener listener;
+	private final CustomJSONRepairEngineService.ValueSeparatorChecker separators;
+
+	private char[] containers;
+	private long[] alive;
+	private long[] ending;
+	private int[] indexes;
+	private int[] memberStarts;
+	private int[] valueStarts;
+	private int depth;
+	private int position;
+
+	/**
+	 * Constructor of the scanner. When descendIntoValues is false, a value found for a path is not read again
+	 * for the other paths, so the values reported never overlap (as needed to remove them).
+	 *
+	 * @param json
+	 * @param paths
+	 * @param descendIntoValues
+	 * @param listener
+	 */
+	CustomJSONPathScanner(CharSequence json, CustomJSONPath[] paths, boolean descendIntoValues, Listener listener) {
+
+		if(paths.length > MAX_PATHS) {
+			throw new IllegalArgumentException("At most " + MAX_PATHS + " paths can be read at once.");
+		}
+
+		this.json = json;
+		this.length = json.length();
+		this.paths = paths;
+		this.descendIntoValues = descendIntoValues;
+		this.listener = listener;
+		this.separators = new CustomJSONRepairEngineService.ValueSeparatorChecker(json);
+		this.containers = new char[16];
+		this.alive = new long[16];
+		this.ending = new long[16];
+		this.indexes = new int[16];
+		this.memberStarts = new int[16];
+		this.valueStarts = new int[16];
+	}
+
+	/**
+	 * Method that reads the whole JSON, reporting the values of the paths to the listener
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	void scan() {
+
+		position = skipWhitespaces(0);
+		if(position >= length || !isContainer(json.charAt(position))) return;
+
+		long allPaths = paths.length == MAX_PATHS ? -1L : (1L << paths.length) - 1;
+		push(json.charAt(position), allPaths, 0L, position, position);
+		position++;
+
+		while(depth > 0) {
+
+			position = skipWhitespaces(position);
+			if(position >= length) return;
+
+			char c = json.charAt(position);
+			int level = depth - 1;
+
+			if(c == ',') {
+				position++;
+			}else if(c == '}' || c == ']') {
+				pop();
+			}else if(containers[level] == '{') {
+				readMember(level);
+			}else {
+				readValue(level, matchIndex(level, indexes[level]++), position);
+			}
+		}
+	}
+
+	private void readMember(int level) {
+
+		int memberStart = position;
+		int keyStart;
+		int keyEnd;
+
+		if(json.charAt(position) == '"') {
+			keyStart = position + 1;
+			keyEnd = skipQuoted(position) - 1;
+			position = skipWhitespaces(keyEnd + 1);
+		}else {
+			keyStart = position;
+			while(position < length && !isKeyEnd(json.charAt(position))) position++;
+			keyEnd = trimEnd(keyStart, position);
+		}
+
+		if(position >= length) return;
+
+		if(json.charAt(position) != ':') {
+			//a key without value: a nested object or array is skipped, any other character is read as a new token
+			if(isContainer(json.charAt(position))) position = skipContainer(position);
+			return;
+		}
+
+		position++;
+		readValue(level, matchKey(level, keyStart, keyEnd), memberStart);
+	}
+
+	private void readValue(int level, long matches, int memberStart) {
+
+		int valueStart = skipWhitespaces(position);
+		if(valueStart >= length) {
+			position = valueStart;
+			return;
+		}
+
+		long endingHere = 0L;
+		for(long bits = matches; bits != 0; bits &= bits - 1) {
+			int path = Long.numberOfTrailingZeros(bits);
+			if(paths[path].size() == level + 1) endingHere |= 1L << path;
+		}
+
+		long continuing = matches & ~endingHere;
+		if(endingHere != 0 && !descendIntoValues) continuing = 0L;
+
+		char c = json.charAt(valueStart);
+
+		if(isContainer(c)) {
+			if(continuing != 0) {
+				push(c, continuing, endingHere, memberStart, valueStart);
+				position = valueStart + 1;
+				return;
+			}
+			position = skipContainer(valueStart);
+			report(endingHere, memberStart, valueStart, position);
+			return;
+		}
+
+		int valueEnd;
+		if(c == '"') {
+			valueEnd = skipQuoted(valueStart);
+			position = valueEnd;
+		}else {
+			position = skipScalar(valueStart, containers[level]);
+			valueEnd = trimScalarEnd(valueStart, position);
+		}
+
+		report(endingHere, memberStart, valueStart, valueEnd);
+	}
+
+	private void report(long endingHere, int memberStart, int valueStart, int valueEnd) {
+
+		if(endingHere == 0) return;
+
+		int memberEnd = skipWhitespaces(valueEnd);
+		memberEnd = memberEnd < length && json.charAt(memberEnd) == ',' ? memberEnd + 1 : valueEnd;
+
+		for(long bits = endingHere; bits != 0; bits &= bits - 1) {
+			listener.onValue(Long.numberOfTrailingZeros(bits), memberStart, valueStart, valueEnd, memberEnd);
+		}
+	}
+
+	private long matchKey(int level, int keyStart, int keyEnd) {
+
+		long matches = 0L;
+
+		for(long bits = alive[level]; bits != 0; bits &= bits - 1) {
+			int path = Long.numberOfTrailingZeros(bits);
+			if(paths[path].matchesKey(level, json, keyStart, keyEnd)) matches |= 1L << path;
+		}
+
+		return matches;
+	}
+
+	private long matchIndex(int level, int index) {
+
+		long matches = 0L;
+
+		for(long bits = alive[level]; bits != 0; bits &= bits - 1) {
+			int path = Long.numberOfTrailingZeros(bits);
+			if(paths[path].matchesIndex(level, index)) matches |= 1L << path;
+		}
+
+		return matches;
+	}
+
+	private void push(char container, long aliveHere, long endingHere, int memberStart, int valueStart) {
+
+		if(depth == containers.length) {
+			int newLength = depth << 1;
+			char[] newContainers = new char[newLength];
+			System.arraycopy(containers, 0, newContainers, 0, depth);
+			containers = newContainers;
+			alive = copyOf(alive, newLength);
+			ending = copyOf(ending, newLength);
+			indexes = copyOf(indexes, newLength);
+			memberStarts = copyOf(memberStarts, newLength);
+			valueStarts = copyOf(valueStarts, newLength);
+		}
+
+		containers[depth] = container;
+		alive[depth] = aliveHere;
+		ending[depth] = endingHere;
+		indexes[depth] = 0;
+		memberStarts[depth] = memberStart;
+		valueStarts[depth] = valueStart;
+		depth++;
+	}
+
+	private void pop() {
+		depth--;
+		position++;
+		report(ending[depth], memberStarts[depth], valueStarts[depth], position);
+	}
+
+	/**
+	 * Method that finds the end of an object or array, counting its keys and brackets
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param start
+	 * @return int
+	 */
+	private int skipContainer(int start) {
+
+		int open = 0;
+
+		for(int i = start; i < length; i++) {
+			char c = json.charAt(i);
+			if(c == '"') {
+				i = skipQuoted(i) - 1;
+			}else if(isContainer(c)) {
+				open++;
+			}else if((c == '}' || c == ']') && --open == 0) {
+				return i + 1;
+			}
+		}
+
+		return length;
+	}
+
+	private int skipScalar(int start, char container) {
+
+		for(int i = start; i < length; i++) {
+			char c = json.charAt(i);
+			if(c == '}' || (c == ']' && container == '[')) return i;
+			if(c == ',' && (container == '[' || separators.isValueSeparator(i))) return i;
+		}
+
+		return length;
+	}
+
+	private int skipQuoted(int start) {
+
+		for(int i = start + 1; i < length; i++) {
+			char c = json.charAt(i);
+			if(c == '\\') {
+				i++;
+			}else if(c == '"') {
+				return i + 1;
+			}
+		}
+
+		return length;
+	}
+
+	private int skipWhitespaces(int i) {
+		while(i < length && json.charAt(i) <= ' ') i++;
+		return i;
+	}
+
+	private int trimEnd(int start, int end) {
+		while(end > start && json.charAt(end - 1) <= ' ') end--;
+		return end;
+	}
+
+	private int trimScalarEnd(int start, int end) {
+		//the commas of an empty field (,,) are not part of the value
+		while(end > start && (json.charAt(end - 1) <= ' ' || json.charAt(end - 1) == ',')) end--;
+		return end;
+	}
+
+	private static boolean isContainer(char c) {
+		return c == '{' || c == '[';
+	}
+
+	private static boolean isKeyEnd(char c) {
+		return c == ':' || c == ',' || c == '{' || c == '}' || c == '[' || c == ']';
+	}
+
+	private static long[] copyOf(long[] array, int newLength) {
+		long[] newArray = new long[newLength];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+
+	private static int[] copyOf(int[] array, int newLength) {
+		int[] newArray = new int[newLength];
+		System.arraycopy(array, 0, newArray, 0, array.length);
+		return newArray;
+	}
+
+}
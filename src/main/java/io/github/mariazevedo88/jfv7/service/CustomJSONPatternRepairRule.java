@@ -0,0 +1,74 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairPatternEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+
+/**
+ * Class of the built-in rules of the legacy engine, that replace every match of a RepairPatternEnum. The regex runs
+ * only when the trigger of the pattern is found in the JSON, and replaces it in a buffer reused by the thread.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONPatternRepairRule implements CustomJSONRepairRule {
+
+	private final RepairPatternEnum pattern;
+	private final RepairStageEnum stage;
+
+	public CustomJSONPatternRepairRule(RepairPatternEnum pattern) {
+		if(pattern == null) throw new IllegalArgumentException("The pattern of a rule can't be null.");
+		this.pattern = pattern;
+		this.stage = getStage(pattern);
+	}
+
+	/**
+	 * Method that returns the stage of the legacy engine that applies a pattern
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param pattern
+	 * @return RepairStageEnum
+	 */
+	private static RepairStageEnum getStage(RepairPatternEnum pattern) {
+
+		for(RepairStageEnum stage : RepairStageEnum.values()) {
+			if(stage.getPatterns().contains(pattern)) return stage;
+		}
+
+		throw new IllegalArgumentException("Pattern without stage: " + pattern);
+	}
+
+	public RepairPatternEnum getPattern() {
+		return pattern;
+	}
+
+	@Override
+	public RepairStageEnum getStage() {
+		return stage;
+	}
+
+	@Override
+	public boolean isApplicable(String json) {
+		return pattern.isApplicable(json);
+	}
+
+	@Override
+	public String apply(String json) {
+
+		//the JSON is replaced in the buffer of the thread, and only the result is allocated
+		CustomJSONScratchBuffers buffers = CustomJSONScratchBuffers.acquire(json.length() + 16);
+
+		try {
+			return pattern.replaceAll(json, buffers.output) ? buffers.output.toString() : json;
+		} finally {
+			buffers.release();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return pattern.toString();
+	}
+
+}
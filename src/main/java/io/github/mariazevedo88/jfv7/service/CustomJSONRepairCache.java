@@ -0,0 +1,301 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairResult;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+
+/**
+ * Class that keeps the results of the last JSONs repaired, so that an identical input (as the retries of a client) 
+ * is not repaired again. The inputs are spread by their hash over segments, each one a map in access order with its own lock, 
+ * and the least recently used results are evicted when a segment has more entries or characters than its share of the limits.
+ * A hit is only returned after the whole input is compared with the cached one, and only for the same engine 
+ * (and the same profile, for the legacy engine), so the cache can be shared by formatters with different settings.
+ * 
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONRepairCache {
+	
+	private static final int MAX_SEGMENTS = 16;
+	private static final int MIN_SEGMENT_ENTRIES = 64;
+	private static final long MIN_SEGMENT_BYTES = 64 * 1024;
+	
+	private final Segment[] segments;
+	private final int maxEntries;
+	private final long maxBytes;
+	
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+	
+	public CustomJSONRepairCache(int maxEntries) {
+		this(maxEntries, Long.MAX_VALUE);
+	}
+	
+	/**
+	 * Constructor of the cache. The size of an entry is estimated by the bytes of its texts: the input 
+	 * and the repaired JSON.
+	 * 
+	 * @param maxEntries
+	 * @param maxBytes
+	 */
+	public CustomJSONRepairCache(int maxEntries, long maxBytes) {
+		
+		if(maxEntries < 1 || maxBytes < 1) {
+			throw new IllegalArgumentException("The limits of the cache must be greater than zero.");
+		}
+		
+		this.maxEntries = maxEntries;
+		this.maxBytes = maxBytes;
+		
+		//a small cache has a single segment, so that it evicts exactly the least recently used result
+		long segmentsByLimits = Math.min(maxEntries / MIN_SEGMENT_ENTRIES, maxBytes / MIN_SEGMENT_BYTES);
+		int segmentsLength = Integer.highestOneBit((int) Math.max(1, Math.min(MAX_SEGMENTS, segmentsByLimits)));
+		this.segments = new Segment[segmentsLength];
+		
+		for(int i = 0; i < segmentsLength; i++) {
+			segments[i] = new Segment((maxEntries + segmentsLength - 1) / segmentsLength, 
+					maxBytes == Long.MAX_VALUE ? maxBytes : (maxBytes + segmentsLength - 1) / segmentsLength);
+		}
+	}
+	
+	/**
+	 * Method that returns a copy of the result cached for an input repaired by an engine, with the default 
+	 * profile, or null if there is none
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param engine
+	 * @return CustomJSONRepairResult
+	 */
+	public CustomJSONRepairResult get(String json, RepairEngineEnum engine) {
+		return get(json, engine, CustomJSONRepairProfile.DEFAULT);
+	}
+	
+	/**
+	 * Method that returns a copy of the result cached for an input repaired by an engine and, if it is the legacy 
+	 * engine, by a profile, or null if there is none
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param engine
+	 * @param profile
+	 * @return CustomJSONRepairResult
+	 */
+	public CustomJSONRepairResult get(String json, RepairEngineEnum engine, CustomJSONRepairProfile profile) {
+		
+		Segment segment = segmentFor(json);
+		CachedResult cached;
+		
+		synchronized(segment) {
+			cached = segment.get(json);
+		}
+		
+		if(cached == null || cached.result.getRepairEngine() != engine 
+				|| (engine == RepairEngineEnum.LEGACY_REGEX && cached.profile != profile)) {
+			misses.incrementAndGet();
+			return null;
+		}
+		
+		hits.incrementAndGet();
+		return cached.result.copy();
+	}
+	
+	/**
+	 * Method that keeps the result of the repair of an input with the default profile, evicting the least 
+	 * recently used results if the limits were reached
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param result
+	 */
+	public void put(String json, CustomJSONRepairResult result) {
+		put(json, result, CustomJSONRepairProfile.DEFAULT);
+	}
+	
+	/**
+	 * Method that keeps the result of the repair of an input with a profile, evicting the least recently used 
+	 * results if the limits were reached
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param result
+	 * @param profile
+	 */
+	public void put(String json, CustomJSONRepairResult result, CustomJSONRepairProfile profile) {
+		
+		Segment segment = segmentFor(json);
+		long bytes = getBytes(json, result);
+		if(bytes > segment.maxBytes) return;
+		
+		CachedResult cached = new CachedResult(result.copy(), profile, bytes);
+		
+		synchronized(segment) {
+			evictions.addAndGet(segment.put(json, cached));
+		}
+	}
+	
+	/**
+	 * Method that removes all the results of the cache. The counters are kept.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	public void clear() {
+		for(Segment segment : segments) {
+			synchronized(segment) {
+				segment.clear();
+			}
+		}
+	}
+	
+	/**
+	 * Method that returns the number of results in the cache
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return int
+	 */
+	public int size() {
+		int size = 0;
+		for(Segment segment : segments) {
+			synchronized(segment) {
+				size += segment.entries.size();
+			}
+		}
+		return size;
+	}
+	
+	/**
+	 * Method that returns the estimated size, in bytes, of the results in the cache
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @return long
+	 */
+	public long getBytes() {
+		long bytes = 0;
+		for(Segment segment : segments) {
+			synchronized(segment) {
+				bytes += segment.bytes;
+			}
+		}
+		return bytes;
+	}
+	
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+	
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+	
+	public long getHitCount() {
+		return hits.get();
+	}
+	
+	public long getMissCount() {
+		return misses.get();
+	}
+	
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+	
+	@Override
+	public String toString() {
+		return "CustomJSONRepairCache [size=" + size() + ", hits=" + hits + ", misses=" + misses + ", evictions=" + evictions + "]";
+	}
+	
+	private Segment segmentFor(String json) {
+		int hash = json.hashCode();
+		return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+	}
+	
+	private static long getBytes(String json, CustomJSONRepairResult result) {
+		
+		long length = json.length();
+		String repairedJson = result.getRepairedJson();
+		
+		//the text of a valid JSON is the input itself, and each char has two bytes
+		if(repairedJson != null && repairedJson != json) length += repairedJson.length();
+		
+		return length << 1;
+	}
+	
+	/**
+	 * Class that keeps a share of the results, in the order they were used. It must be used 
+	 * holding its own lock.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class Segment {
+		
+		private final LinkedHashMap<String, CachedResult> entries = new LinkedHashMap<>(16, 0.75f, true);
+		private final int maxEntries;
+		private final long maxBytes;
+		private long bytes;
+		
+		Segment(int maxEntries, long maxBytes) {
+			this.maxEntries = maxEntries;
+			this.maxBytes = maxBytes;
+		}
+		
+		CachedResult get(String json) {
+			return entries.get(json);
+		}
+		
+		int put(String json, CachedResult cached) {
+			
+			CachedResult previous = entries.put(json, cached);
+			if(previous != null) bytes -= previous.bytes;
+			bytes += cached.bytes;
+			
+			int evicted = 0;
+			Iterator<Map.Entry<String, CachedResult>> iterator = entries.entrySet().iterator();
+			
+			while(entries.size() > maxEntries || bytes > maxBytes) {
+				bytes -= iterator.next().getValue().bytes;
+				iterator.remove();
+				evicted++;
+			}
+			
+			return evicted;
+		}
+		
+		void clear() {
+			entries.clear();
+			bytes = 0;
+		}
+	}
+	
+	private static final class CachedResult {
+		
+		private final CustomJSONRepairResult result;
+		private final CustomJSONRepairProfile profile;
+		private final long bytes;
+		
+		CachedResult(CustomJSONRepairResult result, CustomJSONRepairProfile profile, long bytes) {
+			this.result = result;
+			this.profile = profile;
+			this.bytes = bytes;
+		}
+	}
+
+}
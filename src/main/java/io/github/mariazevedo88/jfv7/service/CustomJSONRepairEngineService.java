@@ -0,0 +1,1309 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONLogPreview;
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairError;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairErrorEnum;
+
+/**
+ * Class that repairs an invalid JSON reading the input only once, character by character.
+ * It keeps track of the current position in the document (key, value, nested object or array)
+ * and writes the quoted JSON directly, reproducing the fixes of the regex chain used by
+ * CustomJSONFormatterService without copying the whole string on each step.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public class CustomJSONRepairEngineService {
+
+	private static final Logger logger = Logger.getLogger(CustomJSONRepairEngineService.class.getName());
+
+	private static final String INVALID_STRUCTURE_MESSAGE = "String is an empty object or has an invalid structure (key without value or vice-versa): ";
+	private static final String INVALID_JSON_MESSAGE = "Error: JSON with more invalid characters than commas and quotes on keys and values.";
+
+	private static final char OBJECT = '{';
+	private static final char ARRAY = '[';
+
+	private static final int BUFFER_SIZE = 8192;
+	private static final int MAP_SIZE = 64 << 20;
+	private static final int REBASE_POSITION = 1 << 30;
+
+	private final CharSource input;
+	private final Writer writer;
+	private final ByteBuffer byteOutput;
+	private final WritableByteChannel channel;
+	private final boolean typedValues;
+
+	private final CustomJSONScratchBuffers buffers;
+	private final StringBuilder output;
+	private final StringBuilder value;
+
+	private char[] containers;
+	private int[] members;
+	private int depth;
+	private int position;
+	private boolean failed;
+	private CustomJSONRepairError error;
+	private IOException writeException;
+	private char[] chunk;
+
+	private CustomJSONRepairEngineService(CharSource input, Writer writer, int capacity, boolean typedValues) {
+		this(input, writer, null, null, new CustomJSONScratchBuffers(capacity), typedValues);
+	}
+
+	private CustomJSONRepairEngineService(CharSource input, Writer writer, ByteBuffer byteOutput, WritableByteChannel channel, 
+			CustomJSONScratchBuffers buffers, boolean typedValues) {
+		this.input = input;
+		this.writer = writer;
+		this.byteOutput = byteOutput;
+		this.channel = channel;
+		this.typedValues = typedValues;
+		this.buffers = buffers;
+		this.output = buffers.output;
+		this.value = buffers.value;
+		this.containers = buffers.containers;
+		this.members = buffers.members;
+	}
+
+	/**
+	 * Method that repairs an invalid JSON in a single pass, adding double quotes where is needed
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param invalidJson
+	 * @param muteException
+	 * @return String
+	 */
+	public static String repair(String invalidJson, boolean muteException) {
+		return repair(invalidJson, muteException, false);
+	}
+
+	/**
+	 * Method that repairs an invalid JSON in a single pass. With typedValues, the values that are numbers 
+	 * (also decimal numbers with comma), booleans or null are written without quotes, as JSON types.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param invalidJson
+	 * @param muteException
+	 * @param typedValues
+	 * @return String
+	 */
+	public static String repair(String invalidJson, boolean muteException, boolean typedValues) {
+
+		List<CustomJSONRepairError> errors = new ArrayList<>(1);
+		String repairedJson = repair(invalidJson, typedValues, errors);
+		report(errors, muteException);
+
+		return repairedJson;
+	}
+
+	/**
+	 * Method that repairs an invalid JSON in a single pass without throwing exceptions: the error that stopped 
+	 * the repair, with its position, is added to a list, and an empty string is returned
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param invalidJson
+	 * @param typedValues
+	 * @param errors receives the error that stopped the repair, if not null
+	 * @return String
+	 */
+	static String repair(String invalidJson, boolean typedValues, List<CustomJSONRepairError> errors) {
+
+		int length = invalidJson.length();
+		CustomJSONRepairEngineService engine = new CustomJSONRepairEngineService(new StringCharSource(invalidJson),
+				null, null, null, CustomJSONScratchBuffers.acquire(length + (length >> 2)), typedValues);
+
+		try {
+			boolean repaired = engine.repair();
+			if(engine.error != null && errors != null) errors.add(engine.error);
+
+			return repaired ? engine.output.toString() : "";
+		} finally {
+			engine.release();
+		}
+	}
+
+	/**
+	 * Method that repairs an invalid JSON read from a Reader, writing the quoted JSON to a Writer as it goes.
+	 * Only the member being repaired is kept in memory, so the size of the document is not limited by the heap.
+	 * Content already written is not undone if an invalid structure is found in the middle of the document.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param reader
+	 * @param writer
+	 * @param muteException
+	 * @return boolean true if the whole document was repaired
+	 * @throws IOException
+	 */
+	public static boolean repair(Reader reader, Writer writer, boolean muteException) throws IOException {
+		return repair(reader, writer, muteException, false);
+	}
+
+	/**
+	 * Method that repairs an invalid JSON read from a Reader, writing it to a Writer as it goes. With typedValues, 
+	 * the values that are numbers, booleans or null are written without quotes.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param reader
+	 * @param writer
+	 * @param muteException
+	 * @param typedValues
+	 * @return boolean true if the whole document was repaired
+	 * @throws IOException
+	 */
+	public static boolean repair(Reader reader, Writer writer, boolean muteException, boolean typedValues) throws IOException {
+
+		ReaderCharSource source = new ReaderCharSource(reader);
+		CustomJSONRepairEngineService engine = new CustomJSONRepairEngineService(source, writer, BUFFER_SIZE << 1, typedValues);
+
+		boolean repaired = engine.repair();
+		engine.flush(0);
+
+		if(source.exception != null) throw source.exception;
+		if(engine.writeException != null) throw engine.writeException;
+		writer.flush();
+
+		return engine.complete(repaired, muteException);
+	}
+
+	/**
+	 * Method that repairs an invalid JSON encoded in UTF-8, from the position to the limit of a buffer, writing 
+	 * the repaired JSON in UTF-8 to another buffer, whose position is moved. The bytes are not decoded: every 
+	 * character the repair looks at is ASCII, and the bytes of the other characters are copied as they are. 
+	 * The input buffer is not changed. If the output buffer is full, a BufferOverflowException is thrown.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param input
+	 * @param output
+	 * @param muteException
+	 * @param typedValues
+	 * @return boolean true if the whole document was repaired
+	 */
+	public static boolean repair(ByteBuffer input, ByteBuffer output, boolean muteException, boolean typedValues) {
+
+		List<CustomJSONRepairError> errors = new ArrayList<>(1);
+		boolean repaired = repair(input, output, typedValues, errors);
+		report(errors, muteException);
+
+		return repaired;
+	}
+
+	/**
+	 * Method that repairs an invalid JSON encoded in UTF-8 into another buffer without throwing exceptions, 
+	 * except a BufferOverflowException: the error that stopped the repair, with its position, is added to a list
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param input
+	 * @param output
+	 * @param typedValues
+	 * @param errors receives the error that stopped the repair, if not null
+	 * @return boolean true if the whole document was repaired
+	 */
+	static boolean repair(ByteBuffer input, ByteBuffer output, boolean typedValues, List<CustomJSONRepairError> errors) {
+
+		CustomJSONRepairEngineService engine = new CustomJSONRepairEngineService(new StringCharSource(new CustomJSONByteSequence(input)),
+				null, output, null, CustomJSONScratchBuffers.acquire(BUFFER_SIZE << 1), typedValues);
+
+		try {
+			boolean repaired = engine.repair();
+			engine.flush(0);
+			if(engine.error != null && errors != null) errors.add(engine.error);
+
+			return repaired;
+		} finally {
+			engine.release();
+		}
+	}
+
+	/**
+	 * Method that repairs an invalid JSON encoded in UTF-8 in a file, that is mapped in memory a region at a time, 
+	 * writing the repaired JSON to a channel as it goes. The file is read from its beginning, the bytes are not decoded, 
+	 * and only the region being read and a small output buffer are kept, whatever the size of the file.
+	 * The channels are not closed.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param input
+	 * @param output
+	 * @param muteException
+	 * @param typedValues
+	 * @return boolean true if the whole document was repaired
+	 * @throws IOException
+	 */
+	public static boolean repair(FileChannel input, WritableByteChannel output, boolean muteException, boolean typedValues) throws IOException {
+
+		MappedCharSource source = new MappedCharSource(input);
+		CustomJSONRepairEngineService engine = new CustomJSONRepairEngineService(source, null, ByteBuffer.allocateDirect(BUFFER_SIZE << 1), 
+				output, new CustomJSONScratchBuffers(BUFFER_SIZE << 1), typedValues);
+
+		boolean repaired = engine.repair();
+		engine.flush(0);
+		engine.drain();
+
+		if(source.exception != null) throw source.exception;
+		if(engine.writeException != null) throw engine.writeException;
+
+		return engine.complete(repaired, muteException);
+	}
+
+	/**
+	 * Method that ends the repair of a stream: a document that ended with objects or arrays still open 
+	 * is not repaired. The error that stopped the repair is thrown or logged.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param repaired
+	 * @param muteException
+	 * @return boolean true if the whole document was repaired
+	 */
+	private boolean complete(boolean repaired, boolean muteException) {
+
+		if(repaired && depth > 0) {
+			fail(RepairErrorEnum.INCOMPLETE_JSON, position, INVALID_JSON_MESSAGE);
+			repaired = false;
+		}
+
+		if(error != null) report(Collections.singletonList(error), muteException);
+
+		return repaired;
+	}
+
+	/**
+	 * Method that throws the exception of the error that stopped a repair or, when the exceptions are muted, logs it
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param errors
+	 * @param muteException
+	 */
+	private static void report(List<CustomJSONRepairError> errors, boolean muteException) {
+
+		if(errors.isEmpty()) return;
+
+		CustomJSONRepairError error = errors.get(0);
+		if(!muteException) throw error.toException();
+
+		if(logger.isEnabledFor(Level.ERROR)) logger.error(CustomJSONLogPreview.of("", error.getMessage()));
+	}
+
+	/**
+	 * Method that walks through the input keeping a stack of the open objects and arrays
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return boolean
+	 */
+	private boolean repair() {
+
+		skipWhitespaces();
+
+		if(!input.has(position)) {
+			fail(RepairErrorEnum.EMPTY_JSON, position, INVALID_JSON_MESSAGE);
+			return false;
+		}
+
+		char first = input.get(position);
+		if(first != OBJECT && first != ARRAY) {
+			invalidStructure(position, Integer.MAX_VALUE);
+			return false;
+		}
+
+		openContainer(first);
+
+		boolean hasMoreTokens = true;
+		while(depth > 0 && hasMoreTokens && !failed) {
+			position = input.release(position);
+			flush(BUFFER_SIZE);
+			hasMoreTokens = containers[depth-1] == OBJECT ? readMember() : readElement();
+		}
+
+		if(failed) return false;
+
+		//keeps any content after the root element, so the parser can complain about it
+		skipWhitespaces();
+		while(input.has(position)) {
+			output.append(input.get(position++));
+			if(output.length() >= BUFFER_SIZE) {
+				position = input.release(position);
+				flush(BUFFER_SIZE);
+			}
+		}
+
+		return writeException == null;
+	}
+
+	/**
+	 * Method that sends the repaired content to the writer or to the byte buffer, when there is one and the output
+	 * reached the given size. Without them, the whole output is kept in memory.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param threshold
+	 */
+	private void flush(int threshold) {
+
+		if((writer == null && byteOutput == null) || writeException != null || output.length() < threshold || output.length() == 0) return;
+
+		int size = output.length();
+
+		if(byteOutput != null) {
+			//the characters of a byte source are bytes, and the ones added by the repair are ASCII
+			for(int i = 0; i < size; i++) {
+				if(channel != null && !byteOutput.hasRemaining()) drain();
+				byteOutput.put((byte) output.charAt(i));
+			}
+			output.setLength(0);
+			return;
+		}
+
+		if(chunk == null || chunk.length < size) chunk = new char[size];
+		output.getChars(0, size, chunk, 0);
+
+		try {
+			writer.write(chunk, 0, size);
+		}catch(IOException e) {
+			writeException = e;
+			failed = true;
+		}
+
+		output.setLength(0);
+	}
+
+	/**
+	 * Method that reads the next key:value pair of an object, or closes it
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return boolean
+	 */
+	private boolean readMember() {
+
+		skipWhitespaces();
+		if(!input.has(position)) return false;
+
+		char c = input.get(position);
+
+		if(c == ',') {
+			position++;
+			return true;
+		}
+
+		if(c == '}') {
+			closeContainer();
+			return true;
+		}
+
+		if(members[depth-1] > 0) output.append(',');
+
+		if(c == '"') {
+			copyQuotedString();
+		}else {
+			int keyStart = position;
+			while(input.has(position) && !isKeyEnd(input.get(position))) position++;
+
+			if(charAt(position) != ':') {
+				invalidStructure(keyStart, position + 1);
+				return false;
+			}
+
+			value.setLength(0);
+			for(int i = trimStart(keyStart, position), end = trimEnd(keyStart, position); i < end; i++) {
+				value.append(input.get(i));
+			}
+			appendQuoted(value, 0, value.length());
+		}
+
+		skipWhitespaces();
+		if(charAt(position) != ':') {
+			invalidStructure(position - 1, position + 1);
+			return false;
+		}
+
+		position++;
+		output.append(':');
+
+		members[depth-1]++;
+		readValue(OBJECT);
+
+		return true;
+	}
+
+	/**
+	 * Method that reads the next element of an array, or closes it
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return boolean
+	 */
+	private boolean readElement() {
+
+		skipWhitespaces();
+		if(!input.has(position)) return false;
+
+		char c = input.get(position);
+
+		if(c == ',') {
+			position++;
+			return true;
+		}
+
+		if(c == ']') {
+			closeContainer();
+			return true;
+		}
+
+		//an array closed by a brace: the array is closed and the brace is left to the object around it
+		if(c == '}') {
+			if(depth == 1) {
+				closeContainer();
+			}else {
+				depth--;
+				output.append(']');
+			}
+			return true;
+		}
+
+		if(members[depth-1]++ > 0) output.append(',');
+
+		readValue(ARRAY);
+
+		return true;
+	}
+
+	/**
+	 * Method that reads a value: a nested object or array is opened, a quoted string is copied
+	 * and any other value is read as a scalar and written between double quotes
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param context
+	 */
+	private void readValue(char context) {
+
+		int start = position;
+
+		skipWhitespaces();
+		if(input.has(position)) {
+			char c = input.get(position);
+			if(c == OBJECT || c == ARRAY) {
+				openContainer(c);
+				return;
+			}
+			if(c == '"') {
+				copyQuotedString();
+				return;
+			}
+		}
+
+		//as the original regex, only one blank between the colon and the value is discarded
+		if(context == OBJECT) {
+			position = start;
+			if(input.has(position + 1) && input.get(position) == ' ' && !isScalarEnd(input.get(position + 1), context)) {
+				position++;
+			}
+		}
+
+		readScalar(context);
+	}
+
+	/**
+	 * Method that reads a scalar value applying the same fixes of the regex chain: decimal numbers with comma,
+	 * hours, parentheses, colons wrongly placed, single quotes, double commas and values broken by commas
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param context
+	 */
+	private void readScalar(char context) {
+
+		value.setLength(0);
+
+		while(input.has(position)) {
+
+			char c = input.get(position);
+
+			if(c == '}' || (c == ']' && context == ARRAY)) break;
+
+			if(c == ',') {
+				if(context == ARRAY) break;
+
+				if(charAt(position + 1) == ',') {
+					trimTrailingWhitespaces(value);
+					position++;
+					continue;
+				}
+
+				if(isDigit(charAt(position - 1)) && isDigit(charAt(position + 1))) {
+					value.append('.');
+				}else if(isMemberSeparator(input, position)) {
+					break;
+				}else {
+					value.append(',');
+				}
+
+			}else if(c == ':') {
+				int uppercaseRun = countTrailingUppercase(value);
+				if(isDigit(charAt(position - 1)) && isDigit(charAt(position + 1))) {
+					value.append(':');
+				}else if(uppercaseRun > 0) {
+					value.setLength(value.length() - uppercaseRun);
+				}else {
+					value.append(':');
+				}
+
+			}else if(c == '(' || c == ')') {
+				value.append(',');
+
+			}else if(c == ';') {
+				if(charAt(position + 1) == ';') {
+					value.append(':');
+					position++;
+				}else {
+					value.append(',');
+				}
+
+			}else if(c == '\'' && charAt(position + 1) == '\'') {
+				position++;
+
+			}else {
+				value.append(c);
+			}
+
+			position++;
+		}
+
+		if(typedValues && isTypedValue(value)) {
+			output.append(value);
+		}else {
+			appendQuoted(value, 0, value.length());
+		}
+	}
+
+	/**
+	 * Method that checks if a scalar is a JSON number, true, false or null. Numbers with leading zeros 
+	 * (as phone numbers and zip codes) are not numbers, so they are kept as strings.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param scalar
+	 * @return boolean
+	 */
+	static boolean isTypedValue(CharSequence scalar) {
+
+		int length = scalar.length();
+		if(length == 0) return false;
+
+		char first = scalar.charAt(0);
+		if(first == 't' || first == 'f' || first == 'n') {
+			return contentEquals(scalar, "true") || contentEquals(scalar, "false") || contentEquals(scalar, "null");
+		}
+
+		int i = first == '-' ? 1 : 0;
+
+		if(i < length && scalar.charAt(i) == '0') {
+			i++;
+		}else {
+			int digits = skipDigits(scalar, i);
+			if(digits == i) return false;
+			i = digits;
+		}
+
+		if(i < length && scalar.charAt(i) == '.') {
+			int digits = skipDigits(scalar, i + 1);
+			if(digits == i + 1) return false;
+			i = digits;
+		}
+
+		if(i < length && (scalar.charAt(i) == 'e' || scalar.charAt(i) == 'E')) {
+			i++;
+			if(i < length && (scalar.charAt(i) == '+' || scalar.charAt(i) == '-')) i++;
+			int digits = skipDigits(scalar, i);
+			if(digits == i) return false;
+			i = digits;
+		}
+
+		return i == length;
+	}
+
+	private static int skipDigits(CharSequence text, int i) {
+		while(i < text.length() && isDigit(text.charAt(i))) i++;
+		return i;
+	}
+
+	private static boolean contentEquals(CharSequence text, String literal) {
+		return text.length() == literal.length() && literal.contentEquals(text);
+	}
+
+	/**
+	 * Method that checks if a comma separates two members of an object or if it is part of a value
+	 * broken by commas. The comma is a separator when the text after it is a key followed by a colon.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param commaIndex
+	 * @return boolean
+	 */
+	private static boolean isMemberSeparator(CharSource input, int commaIndex) {
+
+		int keyStart = commaIndex + 1;
+		while(input.has(keyStart) && isWhitespace(input.get(keyStart))) keyStart++;
+
+		if(!input.has(keyStart)) return true;
+
+		char c = input.get(keyStart);
+		if(c == '"' || c == '}' || c == ']' || c == OBJECT || c == ARRAY) return true;
+
+		for(int i = keyStart; input.has(i); i++) {
+			c = input.get(i);
+			if(c == ',' || c == '}' || c == ']' || c == OBJECT || c == ARRAY) return false;
+			if(c == ':' && !(isDigit(charAt(input, i - 1)) && isDigit(charAt(input, i + 1))) && isKey(input, keyStart, i)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Method that checks if a text before a colon can be a key: a single word that
+	 * is not formed only by uppercase letters (these are removed with the colon).
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param start
+	 * @param end
+	 * @return boolean
+	 */
+	private static boolean isKey(CharSource input, int start, int end) {
+
+		end = trimEnd(input, start, end);
+		if(end <= start) return false;
+
+		boolean onlyUppercase = true;
+		for(int i = start; i < end; i++) {
+			char c = input.get(i);
+			if(isWhitespace(c)) return false;
+			if(c < 'A' || c > 'Z') onlyUppercase = false;
+		}
+
+		return !onlyUppercase;
+	}
+
+	/**
+	 * Method that checks, with the same rules of the repair, if a comma ends the value of an object member:
+	 * the comma of a decimal number and the first comma of a double comma are part of the value, and any
+	 * other comma is a separator only if a key comes after it.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param input
+	 * @param commaIndex
+	 * @return boolean
+	 */
+	private static boolean isValueSeparator(CharSource input, int commaIndex) {
+
+		char next = charAt(input, commaIndex + 1);
+
+		if(next == ',' || (isDigit(charAt(input, commaIndex - 1)) && isDigit(next))) return false;
+
+		return isMemberSeparator(input, commaIndex);
+	}
+
+	/**
+	 * Method that copies a string already between double quotes
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private void copyQuotedString() {
+
+		output.append('"');
+		position++;
+
+		while(input.has(position)) {
+			char c = input.get(position++);
+			if(c == '"') {
+				output.append(c);
+				return;
+			}
+			if(c == '\\' && input.has(position)) {
+				output.append(c).append(input.get(position++));
+			}else {
+				appendEscaped(c);
+			}
+		}
+	}
+
+	/**
+	 * Method that writes a text between double quotes, escaping the characters not allowed in a JSON string
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param text
+	 * @param start
+	 * @param end
+	 */
+	private void appendQuoted(CharSequence text, int start, int end) {
+
+		output.append('"');
+
+		for(int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if(c == '\\' && isEscapeSequence(text, i + 1, end)) {
+				output.append(c).append(text.charAt(++i));
+			}else {
+				appendEscaped(c);
+			}
+		}
+
+		output.append('"');
+	}
+
+	/**
+	 * Method that writes a character, escaping it if needed
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param c
+	 */
+	private void appendEscaped(char c) {
+
+		switch(c) {
+			case '"': output.append("\\\""); break;
+			case '\\': output.append("\\\\"); break;
+			case '\n': output.append("\\n"); break;
+			case '\r': output.append("\\r"); break;
+			case '\t': output.append("\\t"); break;
+			case '\b': output.append("\\b"); break;
+			case '\f': output.append("\\f"); break;
+			default:
+				if(c < ' ') {
+					output.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+				}else {
+					output.append(c);
+				}
+		}
+	}
+
+	/**
+	 * Method that checks if a backslash starts a valid JSON escape sequence, that must be kept as it is
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param text
+	 * @param index
+	 * @param end
+	 * @return boolean
+	 */
+	private static boolean isEscapeSequence(CharSequence text, int index, int end) {
+
+		if(index >= end) return false;
+
+		switch(text.charAt(index)) {
+			case '"': case '\\': case '/': case 'b': case 'f': case 'n': case 'r': case 't':
+				return true;
+			case 'u':
+				if(index + 4 >= end) return false;
+				for(int i = index + 1; i <= index + 4; i++) {
+					if(Character.digit(text.charAt(i), 16) < 0) return false;
+				}
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Method that gives the buffers back to the thread, with the arrays of the containers that may have grown.
+	 * The engine must not be used after it.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private void release() {
+		buffers.containers = containers;
+		buffers.members = members;
+		buffers.release();
+	}
+
+	/**
+	 * Method that opens a nested object or array
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param container
+	 */
+	private void openContainer(char container) {
+
+		if(depth == containers.length) {
+			char[] newContainers = new char[depth << 1];
+			int[] newMembers = new int[depth << 1];
+			System.arraycopy(containers, 0, newContainers, 0, depth);
+			System.arraycopy(members, 0, newMembers, 0, depth);
+			containers = newContainers;
+			members = newMembers;
+		}
+
+		containers[depth] = container;
+		members[depth] = 0;
+		depth++;
+
+		output.append(container);
+		position++;
+	}
+
+	/**
+	 * Method that closes the current object or array. As in the regex chain, an empty
+	 * root object or array is considered an invalid structure.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private void closeContainer() {
+
+		if(depth == 1 && members[0] == 0) {
+			invalidStructure(0, position + 1);
+			return;
+		}
+
+		depth--;
+		output.append(containers[depth] == OBJECT ? '}' : ']');
+		position++;
+	}
+
+	/**
+	 * Method that reports an invalid structure (key without value or vice-versa) with the
+	 * message of the exception thrown by the regex chain
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param start
+	 * @param end
+	 */
+	private void invalidStructure(int start, int end) {
+		fail(RepairErrorEnum.INVALID_STRUCTURE, start, INVALID_STRUCTURE_MESSAGE + input.window(start, end));
+	}
+
+	/**
+	 * Method that stops the repair, keeping the first error with its offset in the document, and its line 
+	 * and column when the whole document is in memory
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param code
+	 * @param index
+	 * @param message
+	 */
+	private void fail(RepairErrorEnum code, int index, String message) {
+
+		failed = true;
+		if(error != null) return;
+
+		CharSequence text = input.text();
+		long offset = input.offset(index);
+		error = text != null ? CustomJSONRepairError.at(code, text, offset, message) : new CustomJSONRepairError(code, null, offset, 0, 0, message);
+	}
+
+	private char charAt(int index) {
+		return charAt(input, index);
+	}
+
+	private static char charAt(CharSource input, int index) {
+		return index >= 0 && input.has(index) ? input.get(index) : '\0';
+	}
+
+	private void skipWhitespaces() {
+		while(input.has(position) && isWhitespace(input.get(position))) position++;
+	}
+
+	private int trimStart(int start, int end) {
+		while(start < end && isWhitespace(input.get(start))) start++;
+		return start;
+	}
+
+	private int trimEnd(int start, int end) {
+		return trimEnd(input, start, end);
+	}
+
+	private static int trimEnd(CharSource input, int start, int end) {
+		while(end > start && isWhitespace(input.get(end - 1))) end--;
+		return end;
+	}
+
+	private static void trimTrailingWhitespaces(StringBuilder builder) {
+		int end = builder.length();
+		while(end > 0 && isWhitespace(builder.charAt(end - 1))) end--;
+		builder.setLength(end);
+	}
+
+	private static int countTrailingUppercase(StringBuilder builder) {
+		int count = 0;
+		for(int i = builder.length() - 1; i >= 0 && builder.charAt(i) >= 'A' && builder.charAt(i) <= 'Z'; i--) count++;
+		return count;
+	}
+
+	private static boolean isKeyEnd(char c) {
+		return c == ':' || c == ',' || c == '{' || c == '}' || c == '[' || c == ']';
+	}
+
+	private static boolean isScalarEnd(char c, char context) {
+		return c == ',' || c == '}' || (c == ']' && context == ARRAY);
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c <= ' ';
+	}
+
+	/**
+	 * Method that writes the bytes of the output buffer to the channel, when there is one
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private void drain() {
+
+		if(channel == null || writeException != null) return;
+
+		((Buffer) byteOutput).flip();
+
+		try {
+			while(byteOutput.hasRemaining()) channel.write(byteOutput);
+		}catch(IOException e) {
+			writeException = e;
+			failed = true;
+		}
+
+		((Buffer) byteOutput).clear();
+	}
+
+	/**
+	 * Source of the characters read by the engine, addressed by their position in the document.
+	 * Characters before the released position are not read again and can be discarded.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private abstract static class CharSource {
+
+		abstract boolean has(int index);
+
+		abstract char get(int index);
+
+		abstract CharSequence window(int start, int end);
+
+		/**
+		 * Method that returns the whole document, or null if it is not kept in memory
+		 *
+		 * @return CharSequence
+		 */
+		CharSequence text() {
+			return null;
+		}
+
+		/**
+		 * Method that returns the offset of a position from the beginning of the document
+		 *
+		 * @param index
+		 * @return long
+		 */
+		long offset(int index) {
+			return index;
+		}
+
+		/**
+		 * Method that discards the characters before an index, returning the new index of the same character.
+		 * A source larger than the range of an int counts the positions again from the released character.
+		 *
+		 * @param index
+		 * @return int
+		 */
+		int release(int index) {
+			//a source fully in memory keeps all characters
+			return index;
+		}
+	}
+
+	/**
+	 * Class that checks the commas of a JSON in memory with the same rules of the repair. It is created once
+	 * for a JSON and reads it through the same source for every comma.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	static final class ValueSeparatorChecker {
+
+		private final CharSource input;
+
+		ValueSeparatorChecker(CharSequence json) {
+			this.input = new StringCharSource(json);
+		}
+
+		boolean isValueSeparator(int commaIndex) {
+			return CustomJSONRepairEngineService.isValueSeparator(input, commaIndex);
+		}
+	}
+
+	/**
+	 * Source backed by a string already in memory
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class StringCharSource extends CharSource {
+
+		private final CharSequence text;
+		private final int length;
+
+		StringCharSource(CharSequence text) {
+			this.text = text;
+			this.length = text.length();
+		}
+
+		@Override
+		boolean has(int index) {
+			return index < length;
+		}
+
+		@Override
+		char get(int index) {
+			return text.charAt(index);
+		}
+
+		@Override
+		CharSequence window(int start, int end) {
+			return text.subSequence(Math.max(start, 0), Math.min(end, length));
+		}
+
+		@Override
+		CharSequence text() {
+			return text;
+		}
+	}
+
+	/**
+	 * Source that reads a Reader into a buffer on demand. The buffer keeps only the characters
+	 * from the released position on, growing only when a single member does not fit in it.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class ReaderCharSource extends CharSource {
+
+		private final Reader reader;
+		private char[] buffer;
+		private int offset;
+		private int count;
+		private int released;
+		private long rebased;
+		private boolean end;
+		private IOException exception;
+
+		ReaderCharSource(Reader reader) {
+			this.reader = reader;
+			this.buffer = new char[BUFFER_SIZE];
+		}
+
+		@Override
+		boolean has(int index) {
+			while(index >= offset + count) {
+				if(end || !fill()) return false;
+			}
+			return index >= offset;
+		}
+
+		@Override
+		char get(int index) {
+			return buffer[index - offset];
+		}
+
+		@Override
+		CharSequence window(int start, int end) {
+			start = Math.max(start, offset);
+			end = Math.min(end, offset + count);
+			return start < end ? new String(buffer, start - offset, end - start) : "";
+		}
+
+		@Override
+		int release(int index) {
+
+			if(index > released) released = index;
+			if(released < REBASE_POSITION) return index;
+
+			//the position of the first character of the buffer becomes zero
+			int shift = offset;
+			offset = 0;
+			released -= shift;
+			rebased += shift;
+			return index - shift;
+		}
+
+		@Override
+		long offset(int index) {
+			return rebased + index;
+		}
+
+		private boolean fill() {
+
+			if(count == buffer.length) {
+				int discarded = Math.max(released - offset, 0);
+				int kept = count - discarded;
+				//grows only when more than half of the buffer is still needed
+				char[] newBuffer = kept > (buffer.length >> 1) ? new char[buffer.length << 1] : buffer;
+				System.arraycopy(buffer, discarded, newBuffer, 0, kept);
+				buffer = newBuffer;
+				offset += discarded;
+				count = kept;
+			}
+
+			try {
+				int read = reader.read(buffer, count, buffer.length - count);
+				if(read < 0) {
+					end = true;
+					return false;
+				}
+				count += read;
+				return true;
+			}catch(IOException e) {
+				exception = e;
+				end = true;
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Source that maps a file in memory a region at a time. Each byte is read as a character, as in 
+	 * CustomJSONByteSequence. A new region is mapped from the released position when the engine reads past 
+	 * the current one, and it is larger only when a single member does not fit in it.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class MappedCharSource extends CharSource {
+
+		private final FileChannel channel;
+		private final long size;
+		private long base;
+		private long released;
+		private MappedByteBuffer region;
+		private long regionStart;
+		private long regionEnd;
+		private IOException exception;
+
+		MappedCharSource(FileChannel channel) throws IOException {
+			this.channel = channel;
+			this.size = channel.size();
+		}
+
+		@Override
+		boolean has(int index) {
+
+			long offset = base + index;
+			if(offset >= size || offset < released) return false;
+			if(offset < regionEnd) return true;
+
+			long start = Math.min(released, offset);
+			long length = Math.min(size - start, Math.max(MAP_SIZE, offset - start + (MAP_SIZE >> 1)));
+
+			if(length > Integer.MAX_VALUE) {
+				exception = new IOException("A single member of the JSON is larger than " + Integer.MAX_VALUE + " bytes.");
+				return false;
+			}
+
+			try {
+				region = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+			}catch(IOException e) {
+				exception = e;
+				return false;
+			}
+
+			regionStart = start;
+			regionEnd = start + length;
+			return true;
+		}
+
+		@Override
+		char get(int index) {
+			return (char) (region.get((int) (base + index - regionStart)) & 0xFF);
+		}
+
+		@Override
+		CharSequence window(int start, int end) {
+
+			long from = Math.max(base + start, regionStart);
+			long to = Math.min(Math.min(base + (long) end, regionEnd), from + BUFFER_SIZE);
+			if(from >= to) return "";
+
+			ByteBuffer bytes = region.duplicate();
+			((Buffer) bytes).position((int) (from - regionStart));
+			return new CustomJSONByteSequence(bytes).subSequence(0, (int) (to - from)).toString();
+		}
+
+		@Override
+		int release(int index) {
+
+			long offset = base + index;
+			if(offset > released) released = offset;
+			if(index < REBASE_POSITION) return index;
+
+			base = offset;
+			return 0;
+		}
+
+		@Override
+		long offset(int index) {
+			return base + index;
+		}
+	}
+
+}
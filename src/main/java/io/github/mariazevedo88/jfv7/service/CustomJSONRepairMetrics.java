@@ -0,0 +1,77 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairPatternEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+
+/**
+ * Interface that receives the metrics of the repairs of a formatter: the latency and the sizes of each call,
+ * and the stages and patterns of the legacy engine that changed a JSON. The methods are called by the threads
+ * that repair the JSONs, so an implementation must be thread-safe and must not block.
+ *
+ * Without metrics, the formatter uses NO_OP and does not even read the clock.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public interface CustomJSONRepairMetrics {
+
+	/**
+	 * Metrics that ignore everything, used by default
+	 */
+	CustomJSONRepairMetrics NO_OP = new CustomJSONRepairMetrics() {
+
+		@Override
+		public void recordRepair(RepairEngineEnum engine, RepairStatusEnum status, long nanos, long inputLength, long outputLength) {
+			//nothing is recorded
+		}
+
+		@Override
+		public void recordStage(RepairStageEnum stage, int count) {
+			//nothing is recorded
+		}
+
+		@Override
+		public void recordPattern(RepairPatternEnum pattern) {
+			//nothing is recorded
+		}
+	};
+
+	/**
+	 * Method that records a call: VALID if the JSON was valid on arrival, REPAIRED or INVALID (rejected).
+	 * The lengths are in characters, or in bytes for the JSONs read and written as bytes.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param engine
+	 * @param status
+	 * @param nanos
+	 * @param inputLength
+	 * @param outputLength
+	 */
+	void recordRepair(RepairEngineEnum engine, RepairStatusEnum status, long nanos, long inputLength, long outputLength);
+
+	/**
+	 * Method that records a stage of the legacy engine that changed a JSON, count times
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param stage
+	 * @param count
+	 */
+	void recordStage(RepairStageEnum stage, int count);
+
+	/**
+	 * Method that records a pattern of the legacy engine that changed a JSON
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param pattern
+	 */
+	void recordPattern(RepairPatternEnum pattern);
+
+}
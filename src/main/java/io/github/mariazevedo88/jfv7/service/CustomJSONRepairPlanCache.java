@@ -0,0 +1,244 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairPatternEnum;
+
+/**
+ * Class that learns which patterns of the legacy engine are needed to repair each shape of JSON. The producers of
+ * invalid JSONs usually make the same mistakes in the same places, so once a shape was repaired, the next inputs
+ * with the same shape are repaired applying only the patterns that changed the first one (the repair plan).
+ *
+ * The shape is a fingerprint of the keys and of the kinds of characters of the values (digits, letters, spaces
+ * and punctuation), that are the only things the patterns look at. The plans are kept by profile, because a profile
+ * changes the patterns that repair a shape.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONRepairPlanCache {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+
+	private final ConcurrentMap<PlanKey, Set<RepairPatternEnum>> plans;
+	private final int maxPlans;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong fallbacks = new AtomicLong();
+
+	/**
+	 * Constructor of the cache. When it has maxPlans plans, the new shapes are repaired
+	 * by the whole chain of patterns and are not learned.
+	 *
+	 * @param maxPlans
+	 */
+	public CustomJSONRepairPlanCache(int maxPlans) {
+
+		if(maxPlans < 1) {
+			throw new IllegalArgumentException("The limits of the cache must be greater than zero.");
+		}
+
+		this.maxPlans = maxPlans;
+		this.plans = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Method that returns the fingerprint of the shape of a JSON. The keys (letters after a brace or a comma,
+	 * up to a colon) are read as they are, the runs of digits, upper case letters, lower case letters and
+	 * whitespaces of the values count as a single character of their kind, and the other characters are read as they are.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @return long
+	 */
+	public static long fingerprint(CharSequence json) {
+
+		long hash = FNV_OFFSET_BASIS;
+		char previousKind = 0;
+		boolean inKey = false;
+
+		for(int i = 0; i < json.length(); i++) {
+
+			char c = json.charAt(i);
+			boolean letter = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+			char kind;
+
+			if(inKey && letter) {
+				kind = c;
+			}else {
+				inKey = false;
+				kind = getKind(c);
+				if(kind == previousKind && isRunKind(kind)) continue;
+			}
+
+			if(c == '{' || c == ',') inKey = true;
+
+			hash = (hash ^ kind) * FNV_PRIME;
+			previousKind = kind;
+		}
+
+		return hash;
+	}
+
+	private static boolean isRunKind(char kind) {
+		return kind == '9' || kind == 'a' || kind == 'A' || kind == ' ';
+	}
+
+	private static char getKind(char c) {
+		if(c >= '0' && c <= '9') return '9';
+		if(c >= 'a' && c <= 'z') return 'a';
+		if(c >= 'A' && c <= 'Z') return 'A';
+		if(Character.isWhitespace(c)) return ' ';
+		return c;
+	}
+
+	/**
+	 * Method that returns the patterns of the default profile needed to repair a shape, or null if the shape 
+	 * was not learned yet
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param fingerprint
+	 * @return Set<RepairPatternEnum>
+	 */
+	public Set<RepairPatternEnum> get(long fingerprint) {
+		return get(CustomJSONRepairProfile.DEFAULT, fingerprint);
+	}
+
+	/**
+	 * Method that returns the patterns of a profile needed to repair a shape, or null if the shape was not 
+	 * learned yet with the profile
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param profile
+	 * @param fingerprint
+	 * @return Set<RepairPatternEnum>
+	 */
+	public Set<RepairPatternEnum> get(CustomJSONRepairProfile profile, long fingerprint) {
+
+		Set<RepairPatternEnum> plan = plans.get(new PlanKey(profile, fingerprint));
+
+		if(plan == null) {
+			misses.incrementAndGet();
+		}else {
+			hits.incrementAndGet();
+		}
+
+		return plan;
+	}
+
+	/**
+	 * Method that keeps the patterns of the default profile needed to repair a shape, if the cache is not full
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param fingerprint
+	 * @param patterns
+	 */
+	public void put(long fingerprint, Set<RepairPatternEnum> patterns) {
+		put(CustomJSONRepairProfile.DEFAULT, fingerprint, patterns);
+	}
+
+	/**
+	 * Method that keeps the patterns of a profile needed to repair a shape, if the cache is not full
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param profile
+	 * @param fingerprint
+	 * @param patterns
+	 */
+	public void put(CustomJSONRepairProfile profile, long fingerprint, Set<RepairPatternEnum> patterns) {
+
+		Set<RepairPatternEnum> plan = Collections.unmodifiableSet(patterns.isEmpty() ?
+				EnumSet.noneOf(RepairPatternEnum.class) : EnumSet.copyOf(patterns));
+		PlanKey key = new PlanKey(profile, fingerprint);
+
+		if(plans.size() < maxPlans || plans.containsKey(key)) {
+			plans.put(key, plan);
+		}
+	}
+
+	/**
+	 * Method that counts a plan that did not repair an input, that was repaired again by the whole chain of patterns
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	void fallback() {
+		fallbacks.incrementAndGet();
+	}
+
+	public void clear() {
+		plans.clear();
+	}
+
+	public int size() {
+		return plans.size();
+	}
+
+	public int getMaxPlans() {
+		return maxPlans;
+	}
+
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	public long getFallbackCount() {
+		return fallbacks.get();
+	}
+
+	@Override
+	public String toString() {
+		return "CustomJSONRepairPlanCache [size=" + size() + ", hits=" + hits + ", misses=" + misses + ", fallbacks=" + fallbacks + "]";
+	}
+
+	/**
+	 * Class that identifies a shape learned with a profile. The profiles are compared by identity.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class PlanKey {
+
+		private final CustomJSONRepairProfile profile;
+		private final long fingerprint;
+
+		PlanKey(CustomJSONRepairProfile profile, long fingerprint) {
+			this.profile = profile;
+			this.fingerprint = fingerprint;
+		}
+
+		@Override
+		public int hashCode() {
+			return (int) (fingerprint ^ (fingerprint >>> 32)) * 31 + System.identityHashCode(profile);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if(!(obj instanceof PlanKey)) return false;
+			PlanKey other = (PlanKey) obj;
+			return fingerprint == other.fingerprint && profile == other.profile;
+		}
+	}
+
+}
@@ -0,0 +1,122 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairPatternEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+
+/**
+ * Class that keeps the ordered rules applied by the legacy engine to the JSONs of a producer. DEFAULT has a rule for
+ * each RepairPatternEnum, in the order of the enum, and repairs as the legacy engine always did. A producer that
+ * never sends some errors can use a reduced profile, without the passes of their rules.
+ *
+ * The rules of the stages up to BROKEN_VALUES are applied before the values broken by commas are joined again, and
+ * the others after it, each group in the order of the profile. A profile is immutable and can be shared by many
+ * formatters.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public final class CustomJSONRepairProfile {
+
+	/**
+	 * Profile with all the built-in rules, used by default
+	 */
+	public static final CustomJSONRepairProfile DEFAULT = of("default", RepairPatternEnum.values());
+
+	private final String name;
+	private final List<CustomJSONRepairRule> rules;
+
+	public CustomJSONRepairProfile(String name, List<? extends CustomJSONRepairRule> rules) {
+
+		if(name == null || rules == null) throw new IllegalArgumentException("The name and the rules of a profile can't be null.");
+
+		List<CustomJSONRepairRule> before = new ArrayList<>(rules.size());
+		List<CustomJSONRepairRule> after = new ArrayList<>();
+
+		for(CustomJSONRepairRule rule : rules) {
+			if(rule == null || rule.getStage() == null) {
+				throw new IllegalArgumentException("Rule without stage on the profile " + name + ": " + rule);
+			}
+			if(rule.getStage().compareTo(RepairStageEnum.BROKEN_VALUES) <= 0) {
+				before.add(rule);
+			}else {
+				after.add(rule);
+			}
+		}
+
+		before.addAll(after);
+		this.name = name;
+		this.rules = Collections.unmodifiableList(before);
+	}
+
+	/**
+	 * Method that returns a profile with the built-in rules of some patterns, in the order given
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param name
+	 * @param patterns
+	 * @return CustomJSONRepairProfile
+	 */
+	public static CustomJSONRepairProfile of(String name, RepairPatternEnum... patterns) {
+
+		List<CustomJSONRepairRule> rules = new ArrayList<>(patterns.length);
+
+		for(RepairPatternEnum pattern : patterns) {
+			rules.add(new CustomJSONPatternRepairRule(pattern));
+		}
+
+		return new CustomJSONRepairProfile(name, rules);
+	}
+
+	/**
+	 * Method that returns a new profile with the rules of this one, except the built-in rules of some patterns
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param name
+	 * @param patterns
+	 * @return CustomJSONRepairProfile
+	 */
+	public CustomJSONRepairProfile without(String name, RepairPatternEnum... patterns) {
+
+		List<RepairPatternEnum> disabled = Arrays.asList(patterns);
+		List<CustomJSONRepairRule> enabled = new ArrayList<>(rules.size());
+
+		for(CustomJSONRepairRule rule : rules) {
+			if(!(rule instanceof CustomJSONPatternRepairRule) || !disabled.contains(((CustomJSONPatternRepairRule) rule).getPattern())) {
+				enabled.add(rule);
+			}
+		}
+
+		return new CustomJSONRepairProfile(name, enabled);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Method that returns the rules in the order they are applied
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return List<CustomJSONRepairRule>
+	 */
+	public List<CustomJSONRepairRule> getRules() {
+		return rules;
+	}
+
+	@Override
+	public String toString() {
+		return "CustomJSONRepairProfile [name=" + name + ", rules=" + rules + "]";
+	}
+
+}
@@ -0,0 +1,52 @@
+package io.github.mariazevedo88.jfv7.service;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+
+/**
+ * Interface of a rule of the legacy engine: a pass over the whole JSON that repairs one kind of error. The formatter
+ * applies the rules of its CustomJSONRepairProfile in order, and skips the pass of a rule whose pre-check does not
+ * find what the rule repairs. The built-in rules are the CustomJSONPatternRepairRule, one for each RepairPatternEnum.
+ *
+ * The rules are shared by the threads that repair the JSONs, so an implementation must be thread-safe.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+public interface CustomJSONRepairRule {
+
+	/**
+	 * Method that returns the stage of the legacy engine of the rule. The rules of the stages after BROKEN_VALUES are
+	 * applied after the values broken by commas are joined again, and the stage is recorded in the metrics when the
+	 * rule changes a JSON.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @return RepairStageEnum
+	 */
+	RepairStageEnum getStage();
+
+	/**
+	 * Method that checks, cheaper than the rule itself, if the rule may change the JSON. It may return true for a JSON
+	 * that the rule does not change, but never false for a JSON that the rule changes.
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @return boolean
+	 */
+	boolean isApplicable(String json);
+
+	/**
+	 * Method that applies the rule to the JSON, returning the same instance if nothing was changed
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param json
+	 * @return String
+	 */
+	String apply(String json);
+
+}
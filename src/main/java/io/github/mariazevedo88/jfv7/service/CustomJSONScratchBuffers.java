@@ -0,0 +1,66 @@
+package io.github.mariazevedo88.jfv7.service;
+
+/**
+ * Class with the growable buffers reused by the repairs of a thread, so that a repair in steady state allocates only
+ * its output. A repair takes the buffers of its thread and gives them back at its end: a repair started while they
+ * are taken (by a rule that repairs another JSON, for example) gets new buffers. The buffers that grew beyond
+ * MAX_RETAINED_CAPACITY are not given back, so a thread does not keep the memory of a large JSON.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ */
+final class CustomJSONScratchBuffers {
+
+	static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+	private static final ThreadLocal<CustomJSONScratchBuffers> BUFFERS = new ThreadLocal<CustomJSONScratchBuffers>();
+
+	final StringBuilder output;
+	final StringBuilder value;
+	char[] containers;
+	int[] members;
+
+	CustomJSONScratchBuffers(int capacity) {
+		this.output = new StringBuilder(capacity);
+		this.value = new StringBuilder();
+		this.containers = new char[16];
+		this.members = new int[16];
+	}
+
+	/**
+	 * Method that takes the buffers of the current thread, or new buffers if they are already taken,
+	 * with an empty output of at least the capacity
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param capacity
+	 * @return CustomJSONScratchBuffers
+	 */
+	static CustomJSONScratchBuffers acquire(int capacity) {
+
+		CustomJSONScratchBuffers buffers = BUFFERS.get();
+
+		if(buffers == null) return new CustomJSONScratchBuffers(capacity);
+
+		BUFFERS.set(null);
+		buffers.output.setLength(0);
+		buffers.output.ensureCapacity(capacity);
+
+		return buffers;
+	}
+
+	/**
+	 * Method that gives the buffers back to the current thread, unless they grew too much
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	void release() {
+		if(output.capacity() <= MAX_RETAINED_CAPACITY && value.capacity() <= MAX_RETAINED_CAPACITY
+				&& containers.length <= MAX_RETAINED_CAPACITY) {
+			BUFFERS.set(this);
+		}
+	}
+
+}
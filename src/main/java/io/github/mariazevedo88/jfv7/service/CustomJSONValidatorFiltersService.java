@@ -1,5 +1,12 @@
 package io.github.mariazevedo88.jfv7.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONPath;
 import io.github.mariazevedo88.jfv7.model.enumeration.DelimitersEnum;
 
 /**
@@ -10,6 +17,17 @@ import io.github.mariazevedo88.jfv7.model.enumeration.DelimitersEnum;
  */
 public class CustomJSONValidatorFiltersService {
 	
+	private static final int STATE_VALUE = 0;
+	private static final int STATE_VALUE_OR_END = 1;
+	private static final int STATE_KEY = 2;
+	private static final int STATE_KEY_OR_END = 3;
+	private static final int STATE_COLON = 4;
+	private static final int STATE_COMMA_OR_END = 5;
+	private static final int STATE_END = 6;
+	
+	//prefix that the lenient parser skips at the beginning of a document
+	private static final String NON_EXECUTE_PREFIX = ")]}'\n";
+	
 	/**
 	 * Method that verifies with string still has a invalid values or keys.
 	 * 
@@ -29,189 +47,524 @@ public class CustomJSONValidatorFiltersService {
 	}
 	
 	/**
-	 * Method that remove a json object/json array pattern from the string
+	 * Method that checks, without building a tree, if a string is a JSON object or array accepted by the 
+	 * lenient parser used to read the repaired JSONs, that also reads unquoted keys and values.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 12/04/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param invalidJson
-	 * @param jsonObjectPattern
-	 * @return String
+	 * @param json
+	 * @return boolean
 	 */
-	private String removeJSONObjectFromString(String invalidJson, String jsonObjectPattern) {
+	public static boolean isParsableJson(String json) {
+		return json != null && getUnparsableJsonOffset(json) < 0;
+	}
+	
+	/**
+	 * Method that walks through a string with the rules of the lenient parser used to read the repaired JSONs 
+	 * and returns the offset of the first character it rejects, or -1 if it is a JSON object or array that the 
+	 * parser reads. Besides the JSON grammar, the parser reads unquoted and single-quoted keys and values, "=" 
+	 * or "=>" after a key, ";" between members, empty values in arrays (as null) and comments before the end of 
+	 * the root. Unlike the parser, it does not throw an exception to reject a string.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @return int
+	 */
+	public static int getUnparsableJsonOffset(CharSequence json) {
 		
-		StringBuilder builderModified = new StringBuilder(invalidJson);
-		int lastIndexOf = builderModified.indexOf(jsonObjectPattern) + jsonObjectPattern.length();
+		int length = json.length();
+		int i = skipLenientWhitespaces(json, 0, length);
+		if(i < 0) return ~i;
+		
+		if(startsWith(json, i, NON_EXECUTE_PREFIX)) {
+			i = skipLenientWhitespaces(json, i + NON_EXECUTE_PREFIX.length(), length);
+			if(i < 0) return ~i;
+		}
 		
-		int numberLeftKeys = 0;
-		int numberRightKeys = 0;
-		int numberLeftBrackets = 0;
-		int numberRightBrackets = 0;
+		if(i >= length || (json.charAt(i) != '{' && json.charAt(i) != '[')) return i;
 		
-		for (int i = lastIndexOf; i < builderModified.length(); i++) {
+		//one bit per level, set when the level is an object
+		long objects = 0L;
+		long[] deepObjects = null;
+		int depth = 0;
+		int state = STATE_VALUE;
+		
+		while(true) {
+			
+			//the parser reads the end of the document with the strict rules, that do not accept comments
+			i = state == STATE_END ? skipWhitespaces(json, i, length) : skipLenientWhitespaces(json, i, length);
+			if(i < 0) return ~i;
+			if(i >= length) return state == STATE_END ? -1 : length;
 			
-			String next = builderModified.substring(i,i+1);
+			char c = json.charAt(i);
 			
-			numberLeftKeys = checkNumberOfLeftKeys(numberLeftKeys, next);
-			numberRightKeys = checkIfExpressionIsARightKey(numberRightKeys, next);
-			numberLeftBrackets = checkIfExpressionIsALeftBracket(numberLeftBrackets, next);
-			numberRightBrackets = checkIfExpressionIsARightBracket(numberRightBrackets, next);
+			switch(state) {
 			
-			if(checkIfJsonHasEqualNumberExpressionsBeforeComma(numberLeftKeys, numberRightKeys, numberLeftBrackets, 
-					numberRightBrackets, next) || checkIfLastKeyIsARightKey(numberLeftKeys, numberRightKeys, next)) {
+				case STATE_KEY_OR_END:
+					if(c == '}') {
+						depth--;
+						state = depth == 0 ? STATE_END : STATE_COMMA_OR_END;
+						i++;
+						continue;
+					}
+					//falls through: a key is expected
+				case STATE_KEY:
+					if(c == '"' || c == '\'') {
+						i = skipLenientString(json, i, length);
+						if(i < 0) return ~i;
+					}else if(isLenientLiteral(c)) {
+						i = skipLenientLiteral(json, i, length);
+					}else {
+						return i;
+					}
+					state = STATE_COLON;
+					continue;
 				
-				if (next.equals(DelimitersEnum.COMMA.getValue())) jsonObjectPattern = jsonObjectPattern.concat(next);
-				break;
+				case STATE_COLON:
+					if(c == '=') {
+						if(++i < length && json.charAt(i) == '>') i++;
+					}else if(c == ':') {
+						i++;
+					}else {
+						return i;
+					}
+					state = STATE_VALUE;
+					continue;
+				
+				case STATE_COMMA_OR_END:
+					boolean inObject = isObject(objects, deepObjects, depth - 1);
+					if(c == ',' || c == ';') {
+						state = inObject ? STATE_KEY : STATE_VALUE;
+						i++;
+					}else if(c == (inObject ? '}' : ']')) {
+						depth--;
+						state = depth == 0 ? STATE_END : STATE_COMMA_OR_END;
+						i++;
+					}else {
+						return i;
+					}
+					continue;
+				
+				case STATE_END:
+					return i;
+				
+				case STATE_VALUE_OR_END:
+					if(c == ']') {
+						depth--;
+						state = depth == 0 ? STATE_END : STATE_COMMA_OR_END;
+						i++;
+						continue;
+					}
+					//falls through: a value is expected
+				default:
+					if(c == ',' || c == ';' || c == ']') {
+						//an empty value is read as null in an array, and the separator is read again
+						if(depth == 0 || isObject(objects, deepObjects, depth - 1)) return i;
+						state = STATE_COMMA_OR_END;
+						continue;
+					}
+					
+					if(c == '{' || c == '[') {
+						if(depth >= Long.SIZE) {
+							deepObjects = setObject(deepObjects, depth - Long.SIZE, c == '{');
+						}else if(c == '{') {
+							objects |= 1L << depth;
+						}else {
+							objects &= ~(1L << depth);
+						}
+						depth++;
+						state = c == '{' ? STATE_KEY_OR_END : STATE_VALUE_OR_END;
+						i++;
+						continue;
+					}
+					
+					if(c == '"' || c == '\'') {
+						i = skipLenientString(json, i, length);
+						if(i < 0) return ~i;
+					}else if(isLenientLiteral(c)) {
+						i = skipLenientLiteral(json, i, length);
+					}else {
+						return i;
+					}
+					state = STATE_COMMA_OR_END;
 			}
-			
-			jsonObjectPattern = jsonObjectPattern.concat(next);
 		}
-
-		return builderModified.toString().replace(jsonObjectPattern, "");
 	}
-
+	
 	/**
-	 * Method that filter a json object/json array pattern from the string
+	 * Method that skips a string between double or single quotes, checking its escape sequences as the lenient parser.
+	 * It returns the index after the closing quote or, on error, the complement (~) of the invalid offset.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 12/04/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param invalidJson
-	 * @param jsonObjectPattern
-	 * @return String
+	 * @param json
+	 * @param start
+	 * @param length
+	 * @return int
 	 */
-	private String filterJSONObjectFromString(String invalidJson, String jsonObjectPattern) {
-		
-		StringBuilder builderModified = new StringBuilder(invalidJson);
-		int lastIndexOf = builderModified.indexOf(jsonObjectPattern) + jsonObjectPattern.length();
+	private static int skipLenientString(CharSequence json, int start, int length) {
 		
-		int numberLeftKeys = 0;
-		int numberRightKeys = 0;
-		int numberLeftBrackets = 0;
-		int numberRightBrackets = 0;
+		char quote = json.charAt(start);
 		
-		for (int i = lastIndexOf; i < builderModified.length(); i++) {
-			
-			String next = builderModified.substring(i,i+1);
-
-			numberLeftKeys = checkNumberOfLeftKeys(numberLeftKeys, next);
-			numberRightKeys = checkIfExpressionIsARightKey(numberRightKeys, next);
-			numberLeftBrackets = checkIfExpressionIsALeftBracket(numberLeftBrackets, next);
-			numberRightBrackets = checkIfExpressionIsARightBracket(numberRightBrackets, next);
-			
-			if(checkIfJsonHasEqualNumberExpressionsBeforeComma(numberLeftKeys, numberRightKeys, numberLeftBrackets,
-					numberRightBrackets, next) || checkIfLastKeyIsARightKey(numberLeftKeys, numberRightKeys, next)) {
-				
-				if (next.equals(DelimitersEnum.COMMA.getValue())) jsonObjectPattern = jsonObjectPattern.concat(next);
-				break;
+		for(int i = start + 1; i < length; i++) {
+			char c = json.charAt(i);
+			if(c == quote) return i + 1;
+			if(c == '\\') {
+				if(++i >= length) return ~length;
+				switch(json.charAt(i)) {
+					case '"': case '\'': case '\\': case '/': case '\n': case 'b': case 'f': case 'n': case 'r': case 't':
+						break;
+					case 'u':
+						if(i + 4 >= length) return ~length;
+						for(int j = 0; j < 4; j++) {
+							if(Character.digit(json.charAt(++i), 16) < 0) return ~i;
+						}
+						break;
+					default:
+						return ~i;
+				}
 			}
-			
-			jsonObjectPattern = jsonObjectPattern.concat(next);
-			
 		}
-
-		return new StringBuilder(jsonObjectPattern).toString();
+		
+		return ~length;
+	}
+	
+	private static int skipLenientLiteral(CharSequence json, int i, int length) {
+		while(i < length && isLenientLiteral(json.charAt(i))) i++;
+		return i;
 	}
 	
 	/**
-	 * Method that checks if the last character of json is a right key and if the 
-	 * expression has more right keys than left keys.
+	 * Method that skips whitespaces and the comments read by the lenient parser (#, // and /* *&#47;).
+	 * It returns the index of the next character or, if a comment is not closed, the complement (~) of the length.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 27/05/2019
-	 *  
-	 * @param numberLeftKeys
-	 * @param numberRightKeys
-	 * @param next
-	 * @return boolean
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param i
+	 * @param length
+	 * @return int
 	 */
-	private boolean checkIfLastKeyIsARightKey(int numberLeftKeys, int numberRightKeys, String next) {
-		return next.equals(DelimitersEnum.RIGHT_KEY.getValue()) && hasMoreRightKeys(numberLeftKeys, numberRightKeys);
+	private static int skipLenientWhitespaces(CharSequence json, int i, int length) {
+		
+		while(i < length) {
+			
+			char c = json.charAt(i);
+			
+			if(c == ' ' || c == '\t' || c == '\n' || c == '\r') {
+				i++;
+			}else if(c == '#' || (c == '/' && i + 1 < length && json.charAt(i + 1) == '/')) {
+				while(i < length && json.charAt(i) != '\n' && json.charAt(i) != '\r') i++;
+			}else if(c == '/' && i + 1 < length && json.charAt(i + 1) == '*') {
+				for(i += 2; i + 1 < length && (json.charAt(i) != '*' || json.charAt(i + 1) != '/'); i++);
+				if(i + 1 >= length) return ~length;
+				i += 2;
+			}else {
+				break;
+			}
+		}
+		
+		return i;
 	}
-
+	
+	private static boolean isLenientLiteral(char c) {
+		switch(c) {
+			case '/': case '\\': case ';': case '#': case '=': case '{': case '}': case '[': case ']': case ':': case ',': 
+			case ' ': case '\t': case '\f': case '\r': case '\n':
+				return false;
+			default:
+				return true;
+		}
+	}
+	
+	private static boolean startsWith(CharSequence json, int start, String prefix) {
+		if(start + prefix.length() > json.length()) return false;
+		for(int i = 0; i < prefix.length(); i++) {
+			if(json.charAt(start + i) != prefix.charAt(i)) return false;
+		}
+		return true;
+	}
+	
 	/**
-	 * Method that checks if the json has a equal number of right keys and left keys or left brackets and right brackets,
-	 * before a comma. If the test is true, it means that the analysis has reached the end of the original string.
+	 * Method that checks, without building a tree, if a string is a well-formed JSON object or array.
+	 * As in the repair, an empty root object or array is not accepted.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 27/05/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param numberLeftKeys
-	 * @param numberRightKeys
-	 * @param numberLeftBrackets
-	 * @param numberRightBrackets
-	 * @param next
+	 * @param json
 	 * @return boolean
 	 */
-	private boolean checkIfJsonHasEqualNumberExpressionsBeforeComma(int numberLeftKeys, int numberRightKeys, int numberLeftBrackets, 
-			int numberRightBrackets, String next) {
-		
-		return next.equals(DelimitersEnum.COMMA.getValue()) && hasEqualNumberOfKeysOrBrackets(numberLeftKeys, numberRightKeys) 
-				&& hasEqualNumberOfKeysOrBrackets(numberLeftBrackets, numberRightBrackets);
+	public static boolean isValidJson(CharSequence json) {
+		return json != null && getInvalidJsonOffset(json) < 0;
 	}
-
+	
 	/**
-	 * Method that checks if the expression to be read is a right bracket.
+	 * Method that walks through a string with a state machine and returns the offset of the first
+	 * character that makes it an invalid JSON, or -1 if it is a well-formed JSON object or array.
+	 * No object is allocated unless the document is nested more than 64 levels.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 27/05/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param numberRightBrackets
-	 * @param next
+	 * @param json
 	 * @return int
 	 */
-	private int checkIfExpressionIsARightBracket(int numberRightBrackets, String next) {
-		if(next.equals(DelimitersEnum.RIGHT_BRACKETS.getValue())) numberRightBrackets++;
-		return numberRightBrackets;
+	public static int getInvalidJsonOffset(CharSequence json) {
+		
+		int length = json.length();
+		int i = skipWhitespaces(json, 0, length);
+		
+		if(i >= length || (json.charAt(i) != '{' && json.charAt(i) != '[')) return i;
+		
+		//one bit per level, set when the level is an object
+		long objects = 0L;
+		long[] deepObjects = null;
+		int depth = 0;
+		int state = STATE_VALUE;
+		
+		while(true) {
+			
+			i = skipWhitespaces(json, i, length);
+			if(i >= length) return state == STATE_END ? -1 : length;
+			
+			char c = json.charAt(i);
+			
+			switch(state) {
+			
+				case STATE_KEY_OR_END:
+					if(c == '}') {
+						if(depth == 1) return i;
+						depth--;
+						state = STATE_COMMA_OR_END;
+						i++;
+						continue;
+					}
+					//falls through: a key is expected
+				case STATE_KEY:
+					if(c != '"') return i;
+					i = skipString(json, i, length);
+					if(i < 0) return ~i;
+					state = STATE_COLON;
+					continue;
+				
+				case STATE_COLON:
+					if(c != ':') return i;
+					state = STATE_VALUE;
+					i++;
+					continue;
+				
+				case STATE_COMMA_OR_END:
+					boolean inObject = isObject(objects, deepObjects, depth - 1);
+					if(c == ',') {
+						state = inObject ? STATE_KEY : STATE_VALUE;
+						i++;
+					}else if(c == (inObject ? '}' : ']')) {
+						depth--;
+						state = depth == 0 ? STATE_END : STATE_COMMA_OR_END;
+						i++;
+					}else {
+						return i;
+					}
+					continue;
+				
+				case STATE_END:
+					return i;
+				
+				case STATE_VALUE_OR_END:
+					if(c == ']') {
+						if(depth == 1) return i;
+						depth--;
+						state = STATE_COMMA_OR_END;
+						i++;
+						continue;
+					}
+					//falls through: a value is expected
+				default:
+					if(c == '{' || c == '[') {
+						if(depth >= Long.SIZE) {
+							deepObjects = setObject(deepObjects, depth - Long.SIZE, c == '{');
+						}else if(c == '{') {
+							objects |= 1L << depth;
+						}else {
+							objects &= ~(1L << depth);
+						}
+						depth++;
+						state = c == '{' ? STATE_KEY_OR_END : STATE_VALUE_OR_END;
+						i++;
+						continue;
+					}
+					
+					if(c == '"') {
+						i = skipString(json, i, length);
+					}else if(c == '-' || (c >= '0' && c <= '9')) {
+						i = skipNumber(json, i, length);
+					}else {
+						i = skipLiteral(json, i, length);
+					}
+					
+					if(i < 0) return ~i;
+					state = STATE_COMMA_OR_END;
+			}
+		}
 	}
-
+	
 	/**
-	 * Method that checks if the expression to be read is a left bracket.
+	 * Method that skips a string between double quotes, checking its escape sequences.
+	 * It returns the index after the closing quote or, on error, the complement (~) of the invalid offset.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 27/05/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param numberLeftBrackets
-	 * @param next
+	 * @param json
+	 * @param start
+	 * @param length
 	 * @return int
 	 */
-	private int checkIfExpressionIsALeftBracket(int numberLeftBrackets, String next) {
-		if(next.equals(DelimitersEnum.LEFT_BRACKETS.getValue())) numberLeftBrackets++;
-		return numberLeftBrackets;
+	private static int skipString(CharSequence json, int start, int length) {
+		
+		for(int i = start + 1; i < length; i++) {
+			char c = json.charAt(i);
+			if(c == '"') return i + 1;
+			if(c < ' ') return ~i;
+			if(c == '\\') {
+				if(++i >= length) return ~length;
+				switch(json.charAt(i)) {
+					case '"': case '\\': case '/': case 'b': case 'f': case 'n': case 'r': case 't':
+						break;
+					case 'u':
+						for(int j = 0; j < 4; j++) {
+							if(++i >= length) return ~length;
+							if(Character.digit(json.charAt(i), 16) < 0) return ~i;
+						}
+						break;
+					default:
+						return ~i;
+				}
+			}
+		}
+		
+		return ~length;
 	}
-
+	
 	/**
-	 * Method that checks if the expression to be read is a right key.
+	 * Method that skips a number in the JSON grammar: -?(0|[1-9][0-9]*)(.[0-9]+)?([eE][+-]?[0-9]+)?
+	 * It returns the index after the number or, on error, the complement (~) of the invalid offset.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 27/05/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param numberRightKeys
-	 * @param next
+	 * @param json
+	 * @param start
+	 * @param length
 	 * @return int
 	 */
-	private int checkIfExpressionIsARightKey(int numberRightKeys, String next) {
-		if(next.equals(DelimitersEnum.RIGHT_KEY.getValue())) numberRightKeys++;
-		return numberRightKeys;
+	private static int skipNumber(CharSequence json, int start, int length) {
+		
+		int i = start;
+		if(json.charAt(i) == '-') i++;
+		
+		if(i >= length || !isDigit(json.charAt(i))) return ~i;
+		if(json.charAt(i++) != '0') i = skipDigits(json, i, length);
+		
+		if(i < length && json.charAt(i) == '.') {
+			if(++i >= length || !isDigit(json.charAt(i))) return ~i;
+			i = skipDigits(json, i, length);
+		}
+		
+		if(i < length && (json.charAt(i) == 'e' || json.charAt(i) == 'E')) {
+			if(++i < length && (json.charAt(i) == '+' || json.charAt(i) == '-')) i++;
+			if(i >= length || !isDigit(json.charAt(i))) return ~i;
+			i = skipDigits(json, i, length);
+		}
+		
+		return i;
 	}
-
+	
 	/**
-	 * Method that checks if the expression to be read is a left key.
+	 * Method that skips one of the literals true, false and null.
+	 * It returns the index after the literal or, on error, the complement (~) of the invalid offset.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 27/05/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param numberLeftKeys
-	 * @param next
+	 * @param json
+	 * @param start
+	 * @param length
 	 * @return int
 	 */
-	private int checkNumberOfLeftKeys(int numberLeftKeys, String next) {
-		if(next.equals(DelimitersEnum.LEFT_KEY.getValue())) numberLeftKeys++;
-		return numberLeftKeys;
+	private static int skipLiteral(CharSequence json, int start, int length) {
+		
+		String literal;
+		switch(json.charAt(start)) {
+			case 't': literal = "true"; break;
+			case 'f': literal = "false"; break;
+			case 'n': literal = "null"; break;
+			default: return ~start;
+		}
+		
+		for(int j = 1; j < literal.length(); j++) {
+			if(start + j >= length || json.charAt(start + j) != literal.charAt(j)) return ~(start + j);
+		}
+		
+		return start + literal.length();
+	}
+	
+	private static int skipDigits(CharSequence json, int i, int length) {
+		while(i < length && isDigit(json.charAt(i))) i++;
+		return i;
+	}
+	
+	private static int skipWhitespaces(CharSequence json, int i, int length) {
+		while(i < length) {
+			char c = json.charAt(i);
+			if(c != ' ' && c != '\t' && c != '\n' && c != '\r') break;
+			i++;
+		}
+		return i;
+	}
+	
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
+	}
+	
+	private static boolean isObject(long objects, long[] deepObjects, int level) {
+		if(level < Long.SIZE) return (objects & (1L << level)) != 0;
+		level -= Long.SIZE;
+		return (deepObjects[level >> 6] & (1L << level)) != 0;
+	}
+	
+	private static long[] setObject(long[] deepObjects, int level, boolean object) {
+		
+		int index = level >> 6;
+		if(deepObjects == null) {
+			deepObjects = new long[index + 1];
+		}else if(index >= deepObjects.length) {
+			long[] newDeepObjects = new long[Math.max(index + 1, deepObjects.length << 1)];
+			System.arraycopy(deepObjects, 0, newDeepObjects, 0, deepObjects.length);
+			deepObjects = newDeepObjects;
+		}
+		
+		if(object) {
+			deepObjects[index] |= 1L << level;
+		}else {
+			deepObjects[index] &= ~(1L << level);
+		}
+		
+		return deepObjects;
 	}
 	
 	/**
-	 * Method that remove a list of json object/json array patterns from the string
+	 * Method that remove a list of json object/json array patterns from the string. The keys are removed one after 
+	 * another, as each key is looked up in the string left by the keys before it: a key inside the value of a key 
+	 * removed before it is not found again, and a key can match the text joined by a removal. So, unlike 
+	 * filterJSONObjectsFromString, the string is still read once per key (O(keys * length)); 
+	 * removeJSONPathsFromString removes many paths in a single scan.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 12/04/2019
@@ -232,7 +585,40 @@ public class CustomJSONValidatorFiltersService {
 	}
 	
 	/**
-	 * Method that filter a list of json object/json array pattern from the string
+	 * Method that remove a json object/json array pattern from the string: the key:value pair of its first 
+	 * occurrence (with the comma after it) and every other copy of the same pair, in a single pass that copies 
+	 * the text between them
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 12/04/2019
+	 * 
+	 * @param invalidJson
+	 * @param jsonObjectPattern
+	 * @return String
+	 */
+	private static String removeJSONObjectFromString(String invalidJson, String jsonObjectPattern) {
+		
+		int start = invalidJson.indexOf(jsonObjectPattern);
+		if(start < 0) return invalidJson;
+		
+		String pair = invalidJson.substring(start, getEndOfJSONObject(invalidJson, start + jsonObjectPattern.length()));
+		if(pair.isEmpty()) return invalidJson;
+		
+		StringBuilder builderModified = new StringBuilder(invalidJson.length() - pair.length());
+		int copied = 0;
+		
+		for(int i = start; i >= 0; i = invalidJson.indexOf(pair, copied)) {
+			builderModified.append(invalidJson, copied, i);
+			copied = i + pair.length();
+		}
+		
+		return builderModified.append(invalidJson, copied, invalidJson.length()).toString();
+	}
+	
+	/**
+	 * Method that filter a list of json object/json array pattern from the string. The string is read once:
+	 * the first occurrence of each key is found in the same scan, and the key:value pairs are written
+	 * in the order of the keys, each followed by a comma, inside an object.
 	 * 
 	 * @author Mariana Azevedo
 	 * @since 12/04/2019
@@ -243,46 +629,229 @@ public class CustomJSONValidatorFiltersService {
 	 */
 	public String filterJSONObjectsFromString(String invalidJson, String[] jsonObjectPattern) {
 		
-		String jsonModified = "";
+		JsonKeyMatcher matcher = new JsonKeyMatcher(jsonObjectPattern);
+		int length = invalidJson.length();
+		int[] starts = new int[jsonObjectPattern.length];
+		int[] ends = new int[jsonObjectPattern.length];
 		
-		for(String attribute : jsonObjectPattern) {
-			String filterResult = filterJSONObjectFromString(invalidJson, attribute);
-			jsonModified = jsonModified.concat(filterResult).concat(DelimitersEnum.COMMA.getValue());
+		for(int i = 0; i < length && matcher.hasKeysToFind(); i++) {
+			//a pair can be inside another one that is also filtered, so all keys that start here are taken
+			for(int key = matcher.match(invalidJson, i); key >= 0; key = matcher.match(invalidJson, i)) {
+				matcher.setFound(key);
+				starts[key] = i;
+				ends[key] = getEndOfJSONObject(invalidJson, i + jsonObjectPattern[key].length());
+			}
 		}
 		
-		if(!jsonModified.startsWith(DelimitersEnum.LEFT_KEY.getValue())) jsonModified = DelimitersEnum.LEFT_KEY.getValue().concat(jsonModified);
-		if(!jsonModified.endsWith(DelimitersEnum.RIGHT_KEY.getValue())) jsonModified = jsonModified.concat(DelimitersEnum.RIGHT_KEY.getValue());
+		//the output is sized once, with room for the braces, and only grows if a brace is missing
+		int capacity = 2;
+		int first = -1;
+		for(int key = 0; key < jsonObjectPattern.length; key++) {
+			if(!matcher.isFound(key)) continue;
+			if(first < 0) first = key;
+			capacity += ends[key] - starts[key] + 1;
+		}
+
+		StringBuilder builderModified = new StringBuilder(capacity);
+		if(first < 0 || invalidJson.charAt(starts[first]) != '{') builderModified.append(DelimitersEnum.LEFT_KEY.getValue());
+
+		for(int key = 0; key < jsonObjectPattern.length; key++) {
+			if(matcher.isFound(key)) {
+				builderModified.append(invalidJson, starts[key], ends[key]).append(DelimitersEnum.COMMA.getValue());
+			}
+		}
+
+		if(builderModified.charAt(builderModified.length() - 1) != '}') builderModified.append(DelimitersEnum.RIGHT_KEY.getValue());
 		
-		return jsonModified;
+		return builderModified.toString();
 	}
-
+	
 	/**
-	 * Method that verifies with string has more right keys
+	 * Method that filter the values of a list of paths (as person.name or payment[*].value) from the string, 
+	 * reading it only once and without repairing it. The values are returned as they are in the string, 
+	 * in the order they were found, for each path in the order of the list.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 12/04/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param numberLeftKeys
-	 * @param numberRightKeys
-	 * @return boolean
+	 * @param invalidJson
+	 * @param jsonPaths
+	 * @return Map
 	 */
-	private boolean hasMoreRightKeys(int numberLeftKeys, int numberRightKeys) {
-		return numberLeftKeys < numberRightKeys;
+	public Map<String, List<String>> filterJSONPathsFromString(final String invalidJson, String[] jsonPaths) {
+		
+		final Map<String, List<String>> values = new LinkedHashMap<>();
+		final List<List<String>> valuesByPath = new ArrayList<>(jsonPaths.length);
+		
+		for(String jsonPath : jsonPaths) {
+			List<String> pathValues = values.get(jsonPath);
+			if(pathValues == null) {
+				pathValues = new ArrayList<>();
+				values.put(jsonPath, pathValues);
+			}
+			valuesByPath.add(pathValues);
+		}
+		
+		new CustomJSONPathScanner(invalidJson, parsePaths(jsonPaths), true, new CustomJSONPathScanner.Listener() {
+			@Override
+			public void onValue(int path, int memberStart, int valueStart, int valueEnd, int memberEnd) {
+				valuesByPath.get(path).add(invalidJson.substring(valueStart, valueEnd));
+			}
+		}).scan();
+		
+		return values;
 	}
-
+	
 	/**
-	 * Method that verifies with string has an equal number of left and right keys
-	 * or left and right brackets
+	 * Method that remove the key:value pairs (or array elements) of a list of paths from the string, reading it 
+	 * only once and without repairing it. As in removeJSONObjectsFromString, the comma after a pair is removed with it.
 	 * 
 	 * @author Mariana Azevedo
-	 * @since 12/04/2019
+	 * @since 17/10/2026
 	 * 
-	 * @param numberLeft
-	 * @param numberRight
-	 * @return boolean
+	 * @param invalidJson
+	 * @param jsonPaths
+	 * @return String
 	 */
-	private boolean hasEqualNumberOfKeysOrBrackets(int numberLeft, int numberRight) {
-		return numberLeft == numberRight;
+	public String removeJSONPathsFromString(final String invalidJson, String[] jsonPaths) {
+		
+		final StringBuilder builderModified = new StringBuilder(invalidJson.length());
+		final int[] copied = new int[1];
+		
+		new CustomJSONPathScanner(invalidJson, parsePaths(jsonPaths), false, new CustomJSONPathScanner.Listener() {
+			@Override
+			public void onValue(int path, int memberStart, int valueStart, int valueEnd, int memberEnd) {
+				//the same pair can be reported for more than one path
+				if(memberStart < copied[0]) return;
+				builderModified.append(invalidJson, copied[0], memberStart);
+				copied[0] = memberEnd;
+			}
+		}).scan();
+		
+		return builderModified.append(invalidJson, copied[0], invalidJson.length()).toString();
+	}
+	
+	private static CustomJSONPath[] parsePaths(String[] jsonPaths) {
+		
+		CustomJSONPath[] paths = new CustomJSONPath[jsonPaths.length];
+		for(int i = 0; i < jsonPaths.length; i++) paths[i] = new CustomJSONPath(jsonPaths[i]);
+		
+		return paths;
+	}
+	
+	/**
+	 * Method that finds where the value of a key ends: on the first comma out of any nested object or array 
+	 * (the comma is part of the pair) or on the right key that closes the object of the pair.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 * 
+	 * @param json
+	 * @param start
+	 * @return int
+	 */
+	private static int getEndOfJSONObject(CharSequence json, int start) {
+		
+		int keysDepth = 0;
+		int bracketsDepth = 0;
+		int length = json.length();
+		
+		for(int i = start; i < length; i++) {
+			switch(json.charAt(i)) {
+				case '{':
+					keysDepth++;
+					break;
+				case '}':
+					if(--keysDepth < 0) return i;
+					break;
+				case '[':
+					bracketsDepth++;
+					break;
+				case ']':
+					bracketsDepth--;
+					break;
+				case ',':
+					if(keysDepth == 0 && bracketsDepth == 0) return i + 1;
+					break;
+				default:
+					break;
+			}
+		}
+		
+		return length;
+	}
+	
+	/**
+	 * Class that finds, in a single scan, the first occurrence of each key of a list. The keys are grouped 
+	 * in a small hash table by their first character, so only the keys that can start at a position are compared.
+	 * 
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 */
+	private static final class JsonKeyMatcher {
+		
+		private final String[] keys;
+		private final int[] buckets;
+		private final int[] next;
+		private final boolean[] found;
+		private int keysToFind;
+		
+		JsonKeyMatcher(String[] keys) {
+			
+			this.keys = keys;
+			this.buckets = new int[Integer.highestOneBit(Math.max(keys.length, 1) << 1) << 1];
+			this.next = new int[keys.length];
+			this.found = new boolean[keys.length];
+			Arrays.fill(buckets, -1);
+			
+			//the keys are chained in the order of the list, so the first key of the list wins on a tie
+			for(int key = keys.length - 1; key >= 0; key--) {
+				if(keys[key].isEmpty()) continue;
+				int bucket = keys[key].charAt(0) & (buckets.length - 1);
+				next[key] = buckets[bucket];
+				buckets[bucket] = key;
+				keysToFind++;
+			}
+		}
+		
+		int match(CharSequence json, int index) {
+			
+			for(int key = getFirstCandidate(json.charAt(index)); key >= 0; key = next[key]) {
+				if(!found[key] && matches(json, index, key)) return key;
+			}
+			
+			return -1;
+		}
+		
+		int getFirstCandidate(char c) {
+			return buckets[c & (buckets.length - 1)];
+		}
+		
+		boolean matches(CharSequence json, int index, int key) {
+			
+			String pattern = keys[key];
+			int length = pattern.length();
+			if(index + length > json.length()) return false;
+			
+			for(int i = 0; i < length; i++) {
+				if(json.charAt(index + i) != pattern.charAt(i)) return false;
+			}
+			
+			return true;
+		}
+		
+		void setFound(int key) {
+			found[key] = true;
+			keysToFind--;
+		}
+		
+		boolean isFound(int key) {
+			return found[key];
+		}
+		
+		boolean hasKeysToFind() {
+			return keysToFind > 0;
+		}
 	}
 
 }
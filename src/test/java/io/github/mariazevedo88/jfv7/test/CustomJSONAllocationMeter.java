@@ -0,0 +1,54 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import org.junit.Assume;
+
+/**
+ * Class that measures the bytes allocated by the current thread, for the tests that check the allocations
+ * of the filters and of the repairs. The tests are skipped on JVMs that do not count allocations.
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+final class CustomJSONAllocationMeter {
+
+	private static final int RUNS = 20;
+	private static final int WARM_UP_RUNS = 10;
+
+	private CustomJSONAllocationMeter() {}
+
+	/**
+	 * Method that runs a task many times and returns the least bytes allocated by a run after the warm up
+	 *
+	 * @author Mariana Azevedo
+	 * @since 17/10/2026
+	 *
+	 * @param task
+	 * @return long
+	 */
+	static long measureAllocatedBytes(Runnable task) {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+
+		com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+		Assume.assumeTrue(threadBean.isThreadAllocatedMemorySupported());
+		threadBean.setThreadAllocatedMemoryEnabled(true);
+
+		long threadId = Thread.currentThread().getId();
+		long minimum = Long.MAX_VALUE;
+
+		//the first runs are only a warm up, the least allocation of the others is kept
+		for(int run=0; run<RUNS; run++) {
+			long before = threadBean.getThreadAllocatedBytes(threadId);
+			task.run();
+			long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+			if(run >= WARM_UP_RUNS) minimum = Math.min(minimum, allocated);
+		}
+
+		return minimum;
+	}
+
+}
@@ -0,0 +1,113 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import io.github.mariazevedo88.jfv7.JsonFormatterValidatorApplication;
+import io.github.mariazevedo88.jfv7.model.CustomJSONBatchSummary;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONBatchService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+
+/**
+ * CustomJSONBatchService test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONBatchServiceTest {
+
+	private CustomJSONBatchService batchService;
+
+	@Before
+	public void setUp() {
+		batchService = new CustomJSONBatchService(new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER), 4, 16);
+	}
+
+	@Test
+	public void shouldRepairRecordsKeepingTheOrder() throws IOException {
+		StringBuilder input = new StringBuilder();
+		for(int i=0; i<1000; i++) {
+			input.append("{id:").append(i).append(",street:Rua ").append(i).append(", casa 2}\n");
+		}
+
+		StringWriter writer = new StringWriter();
+		StringWriter rejectWriter = new StringWriter();
+		CustomJSONBatchSummary summary = batchService.repair(new BufferedReader(new StringReader(input.toString())), writer, rejectWriter, true);
+
+		String[] lines = writer.toString().split("\n");
+		assertEquals(1000, summary.getRepairedRecords());
+		assertEquals(1000, lines.length);
+		assertEquals("", rejectWriter.toString());
+
+		for(int i=0; i<1000; i++) {
+			JsonObject json = JsonParser.parseString(lines[i]).getAsJsonObject();
+			assertEquals(String.valueOf(i), json.get("id").getAsString());
+			assertEquals("Rua " + i + ", casa 2", json.get("street").getAsString());
+		}
+	}
+
+	@Test
+	public void shouldWriteInvalidRecordsToRejectStream() throws IOException {
+		String input = "{\"id\":1}\n{}\n\n{id:2}\n{blablablabla}\n";
+
+		StringWriter writer = new StringWriter();
+		StringWriter rejectWriter = new StringWriter();
+		CustomJSONBatchSummary summary = batchService.repair(new BufferedReader(new StringReader(input)), writer, rejectWriter, true);
+
+		assertEquals(4, summary.getRecords());
+		assertEquals(1, summary.getValidRecords());
+		assertEquals(1, summary.getRepairedRecords());
+		assertEquals(2, summary.getRejectedRecords());
+		assertEquals("{\"id\":1}\n{\"id\":\"2\"}\n", writer.toString());
+		assertEquals("{}\n{blablablabla}\n", rejectWriter.toString());
+	}
+
+	@Test
+	public void shouldRepairLineDelimitedFileFromCommandLine() throws IOException {
+		File input = File.createTempFile("jfv7-batch", ".ndjson");
+		File output = File.createTempFile("jfv7-batch", ".ndjson");
+		File rejects = File.createTempFile("jfv7-batch", ".ndjson");
+
+		try {
+			Files.write(input.toPath(), Arrays.asList("{name:Mariana,age:31}", "{}", "{city:São Paulo}"), StandardCharsets.UTF_8);
+			JsonFormatterValidatorApplication.main(new String[] {"--batch", input.getPath(), output.getPath(), rejects.getPath(), "--threads", "2"});
+
+			List<String> lines = Files.readAllLines(output.toPath(), StandardCharsets.UTF_8);
+			assertEquals(Arrays.asList("{\"name\":\"Mariana\",\"age\":\"31\"}", "{\"city\":\"São Paulo\"}"), lines);
+			assertEquals(Arrays.asList("{}"), Files.readAllLines(rejects.toPath(), StandardCharsets.UTF_8));
+		}finally {
+			input.delete();
+			output.delete();
+			rejects.delete();
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowsIllegalArgumentExceptionWithoutThreads() {
+		new CustomJSONBatchService(new CustomJSONFormatterService(), 0);
+	}
+
+	@After
+	public void tearDown() {
+		batchService = null;
+	}
+
+}
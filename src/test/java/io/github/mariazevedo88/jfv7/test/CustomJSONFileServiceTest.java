@@ -0,0 +1,106 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONBatchSummary;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFileService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+
+/**
+ * CustomJSONFileService test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONFileServiceTest {
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFileService fileService;
+
+	private File input;
+	private File output;
+	private File rejects;
+
+	@Before
+	public void setUp() throws IOException {
+		formatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+		fileService = new CustomJSONFileService(formatter);
+		input = File.createTempFile("jfv7-input", ".json");
+		output = File.createTempFile("jfv7-output", ".json");
+		rejects = File.createTempFile("jfv7-rejects", ".json");
+	}
+
+	@Test
+	public void shouldRepairAFileAsTheStringOfItsDocument() throws IOException {
+		StringBuilder json = new StringBuilder("{items:[");
+		for(int i=0; i<1000; i++) {
+			if(i > 0) json.append(',');
+			json.append("{id:").append(i).append(",name:João ").append(i).append(",reference:Rua A, casa 2,value:188,50}");
+		}
+		json.append("]}");
+		write(input, json.toString());
+
+		assertTrue(fileService.repair(input, output, true, false));
+		assertEquals(formatter.repair(json.toString(), true, false).getRepairedJson(), read(output));
+	}
+
+	@Test
+	public void shouldNotRepairATruncatedFile() throws IOException {
+		write(input, "{id:1,name:João");
+
+		assertFalse(fileService.repair(input, output, true, true));
+	}
+
+	@Test
+	public void shouldRepairTheLinesOfAFile() throws IOException {
+		write(input, "{\"id\":1}\r\n{id:2,name:João}\n\n   \r\n{blablablabla}\n{id:3}");
+
+		CustomJSONBatchSummary summary = fileService.repairLines(input, output, rejects, true);
+
+		assertEquals(4, summary.getRecords());
+		assertEquals(1, summary.getValidRecords());
+		assertEquals(2, summary.getRepairedRecords());
+		assertEquals(1, summary.getRejectedRecords());
+		assertEquals("{\"id\":1}\n{\"id\":\"2\",\"name\":\"João\"}\n{\"id\":\"3\"}\n", read(output));
+		assertEquals("{blablablabla}\n", read(rejects));
+	}
+
+	@Test
+	public void shouldRepairTheLinesOfAnEmptyFile() throws IOException {
+		write(input, "");
+
+		CustomJSONBatchSummary summary = fileService.repairLines(input, output, rejects, true);
+
+		assertEquals(0, summary.getRecords());
+		assertEquals("", read(output));
+	}
+
+	@After
+	public void tearDown() {
+		input.delete();
+		output.delete();
+		rejects.delete();
+	}
+
+	private static void write(File file, String content) throws IOException {
+		Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String read(File file) throws IOException {
+		return new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+	}
+
+}
@@ -1,5 +1,6 @@
 package io.github.mariazevedo88.jfv7.test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
@@ -132,6 +133,36 @@ public class CustomJSONFormatterTest{
 		assertTrue(json.isJsonObject());
 	}
 	
+	@Test
+	public void shouldGetValidJSONOfStringWithManyValuesSeparatedByCommas() throws IOException {
+		StringBuilder reference = new StringBuilder("Entregar na entrada de servico");
+		for(int i=0; i<2000; i++) {
+			reference.append(", na parte de tras do predio");
+		}
+		String jsonWithManyCommas = "{id:267590641902,deliveryAddress:{reference:" + reference + ",city:Lavras},billingAddress:{reference:" + reference + "},totalAmount:169.89}";
+		JsonObject json = (JsonObject) formatter.checkValidityAndFormatObject(jsonWithManyCommas, true, false);
+		
+		assertEquals(reference.toString(), json.getAsJsonObject("deliveryAddress").get("reference").getAsString());
+		assertEquals(reference.toString(), json.getAsJsonObject("billingAddress").get("reference").getAsString());
+		assertEquals("169.89", json.get("totalAmount").getAsString());
+	}
+	
+	@Test(timeout = 10000)
+	public void shouldGetValidJSONOfLargeStringWithDoubleCommas() throws IOException {
+		StringBuilder jsonWithDoubleCommas = new StringBuilder("{items:[");
+		for(int i=0; jsonWithDoubleCommas.length() < 1024*1024; i++) {
+			if(i > 0) jsonWithDoubleCommas.append(',');
+			jsonWithDoubleCommas.append("{street:Rua Au00e7au00ed,,number:").append(i).append(",additionalInfo:Frente u00e0 Av. Sucupira,,reference:Garagem pequena}");
+		}
+		jsonWithDoubleCommas.append("]}");
+		
+		JsonObject json = (JsonObject) formatter.checkValidityAndFormatObject(jsonWithDoubleCommas.toString(), true, false);
+		JsonObject firstItem = json.getAsJsonArray("items").get(0).getAsJsonObject();
+		
+		assertEquals("Rua Au00e7au00ed", firstItem.get("street").getAsString());
+		assertEquals("Frente u00e0 Av. Sucupira", firstItem.get("additionalInfo").getAsString());
+	}
+	
 	@Test(expected = JsonParseException.class)
 	public void shouldThrowsJsonParseExceptionIfParamIsEmptyString() throws IOException {
 		formatter.checkValidityAndFormatObject("", false, false);
@@ -415,6 +446,34 @@ public class CustomJSONFormatterTest{
 		assertNotNull(formatter.getCustomJson().getValidJson());
 	}
 	
+	@Test
+	public void shouldProjectOnlyTheRequestedFieldsOfAnInvalidJson() {
+		String invalidJson = "{id:267107086801,purchaseDate:2018-07-15,items:[{id:1,value:188,50},{id:2,value:3}],"
+				+ "address:{street:Rua A, casa 2,number:3}}";
+		JsonObject projection = formatter.project(invalidJson, new String[] {"id", "purchaseDate", "items[*].value", 
+				"address", "missing"}, true, false);
+		
+		assertEquals("267107086801", projection.get("id").getAsString());
+		assertEquals("2018-07-15", projection.get("purchaseDate").getAsString());
+		assertEquals("[\"188.50\",\"3\"]", projection.get("items[*].value").toString());
+		assertEquals("Rua A, casa 2", projection.getAsJsonObject("address").get("street").getAsString());
+		assertFalse(projection.has("missing"));
+		assertEquals(4, projection.size());
+	}
+	
+	@Test
+	public void shouldProjectTheFieldsOfAValidJsonKeepingTheirTypes() {
+		JsonObject projection = formatter.project("{\"id\":1,\"items\":[{\"v\":true},{\"v\":null}]}", 
+				new String[] {"id", "items[*].v", "items[0]"}, true, false);
+		
+		assertEquals("{\"id\":1,\"items[*].v\":[true,null],\"items[0]\":{\"v\":true}}", projection.toString());
+	}
+	
+	@Test(expected = NullPointerException.class)
+	public void shouldThrowsNullPointerExceptionOnProjectANullJson() {
+		formatter.project(null, new String[] {"id"}, true, false);
+	}
+	
 	@After
 	public void tearDown() {
 		formatter = null;
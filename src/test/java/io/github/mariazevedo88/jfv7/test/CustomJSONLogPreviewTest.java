@@ -0,0 +1,156 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSON;
+import io.github.mariazevedo88.jfv7.model.CustomJSONLogPreview;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+
+/**
+ * CustomJSONLogPreview test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONLogPreviewTest {
+
+	private static final String ORDER_JSON = "{id:267107086801,productCode:02-671070868}";
+
+	private final Logger customJsonLogger = Logger.getLogger(CustomJSON.class.getName());
+	private final Logger formatterLogger = Logger.getLogger(CustomJSONFormatterService.class.getName());
+	private final List<String> messages = new ArrayList<>();
+
+	private int previewLength;
+	private AppenderSkeleton appender;
+
+	@Before
+	public void setUp() {
+		previewLength = CustomJSONLogPreview.getPreviewLength();
+		appender = new AppenderSkeleton() {
+			@Override
+			protected void append(LoggingEvent event) {
+				messages.add(event.getRenderedMessage());
+			}
+
+			@Override
+			public boolean requiresLayout() {
+				return false;
+			}
+
+			@Override
+			public void close() {
+			}
+		};
+		formatterLogger.addAppender(appender);
+	}
+
+	@After
+	public void tearDown() {
+		CustomJSONLogPreview.setPreviewLength(previewLength);
+		formatterLogger.removeAppender(appender);
+		formatterLogger.setLevel(null);
+		customJsonLogger.setLevel(null);
+	}
+
+	@Test
+	public void shouldKeepShortJsonsWhole() {
+		CustomJSONLogPreview.setPreviewLength(64);
+		assertEquals("Invalid json: " + ORDER_JSON, CustomJSONLogPreview.of("Invalid json: ", ORDER_JSON).toString());
+	}
+
+	@Test
+	public void shouldCutLongJsonsToThePreviewLength() {
+		CustomJSONLogPreview.setPreviewLength(8);
+		assertEquals("Invalid json: {id:2671... (" + ORDER_JSON.length() + " characters)",
+				CustomJSONLogPreview.of("Invalid json: ", ORDER_JSON).toString());
+		assertEquals("Invalid json: {id:2671... (" + ORDER_JSON.length() + " characters)",
+				CustomJSONLogPreview.of("Invalid json: ", new StringBuilder(ORDER_JSON)).toString());
+
+		CustomJSONLogPreview.setPreviewLength(0);
+		assertEquals("Invalid json: ... (" + ORDER_JSON.length() + " characters)",
+				CustomJSONLogPreview.of("Invalid json: ", ORDER_JSON).toString());
+	}
+
+	@Test
+	public void shouldSerializeTreesOnlyUpToThePreviewLength() {
+		JsonArray array = new JsonArray();
+		for(int i = 0; i < 100000; i++) array.add(i);
+
+		CustomJSONLogPreview.setPreviewLength(10);
+		assertEquals("Valid json: [0,1,2,3,4...", CustomJSONLogPreview.of("Valid json: ", array).toString());
+
+		JsonArray small = new JsonArray();
+		small.add("a=b");
+		assertEquals("Valid json: [\"a=b\"]", CustomJSONLogPreview.of("Valid json: ", small).toString());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectNegativePreviewLength() {
+		CustomJSONLogPreview.setPreviewLength(-1);
+	}
+
+	@Test
+	public void shouldNotReadTheJsonWhenLogIsMutedOrDisabled() {
+		CountingJson json = new CountingJson();
+		CustomJSON customJson = new CustomJSON();
+
+		assertFalse(customJson.isValidJson(json, true));
+		assertEquals(0, json.calls);
+
+		customJsonLogger.setLevel(Level.WARN);
+		assertFalse(customJson.isValidJson(json, false));
+		assertEquals(0, json.calls);
+
+		customJsonLogger.setLevel(Level.INFO);
+		assertFalse(customJson.isValidJson(json, false));
+		assertEquals(1, json.calls);
+	}
+
+	@Test
+	public void shouldLogPreviewsOfTheRepairedJson() throws IOException {
+		CustomJSONLogPreview.setPreviewLength(8);
+		formatterLogger.setLevel(Level.INFO);
+		new CustomJSONFormatterService().repair(ORDER_JSON, false, true);
+
+		assertEquals(2, messages.size());
+		assertEquals("Invalid json: {id:2671... (" + ORDER_JSON.length() + " characters)", messages.get(0));
+		assertEquals("Valid json: {\"id\":\"2...", messages.get(1));
+
+		messages.clear();
+		formatterLogger.setLevel(Level.WARN);
+		new CustomJSONFormatterService().repair(ORDER_JSON, false, true);
+		assertTrue(messages.isEmpty());
+	}
+
+	/**
+	 * Object that counts how many times it was written as text
+	 */
+	private static final class CountingJson {
+
+		private int calls;
+
+		@Override
+		public String toString() {
+			calls++;
+			return ORDER_JSON;
+		}
+	}
+
+}
@@ -0,0 +1,165 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONParallelRepairService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONRepairEngineService;
+
+/**
+ * CustomJSONParallelRepairService test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONParallelRepairServiceTest {
+
+	private static final String RECORD = "{id:%d,name:João %d,reference:Rua A, casa 2,value:188,50,tags:[a,b]}";
+
+	private CustomJSONParallelRepairService parallelService;
+
+	@Before
+	public void setUp() {
+		parallelService = new CustomJSONParallelRepairService(new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER), 4, 256);
+	}
+
+	@After
+	public void tearDown() {
+		parallelService.close();
+	}
+
+	@Test
+	public void shouldRepairARootArrayAsTheTokenizer() throws IOException {
+		StringBuilder json = new StringBuilder("[");
+		for(int i=0; i<500; i++) {
+			if(i > 0) json.append(i % 7 == 0 ? " ,, " : ",");
+			json.append(String.format(RECORD, i, i));
+		}
+		json.append("]");
+
+		StringBuilder out = new StringBuilder();
+
+		assertTrue(parallelService.repair(json, out, true, false));
+		assertEquals(CustomJSONRepairEngineService.repair(json.toString(), false), out.toString());
+		assertEquals(500, JsonParser.parseString(out.toString()).getAsJsonArray().size());
+	}
+
+	@Test
+	public void shouldRepairAnObjectWithLargeArraysAsTheTokenizer() throws IOException {
+		StringBuilder json = new StringBuilder("{ 'source' : export,items : [");
+		for(int i=0; i<300; i++) {
+			if(i > 0) json.append(',');
+			json.append(String.format(RECORD, i, i));
+		}
+		json.append("], \"payments\":[");
+		for(int i=0; i<300; i++) {
+			if(i > 0) json.append(',');
+			json.append("{value:").append(i).append(",50,date:2018-07-26 18:00:31}");
+		}
+		json.append("]}");
+
+		StringBuilder out = new StringBuilder();
+
+		assertTrue(parallelService.repair(json, out, true, false));
+		assertEquals(CustomJSONRepairEngineService.repair(json.toString(), false), out.toString());
+
+		JsonObject repaired = JsonParser.parseString(out.toString()).getAsJsonObject();
+		JsonArray items = repaired.getAsJsonArray("items");
+		assertEquals(300, items.size());
+		assertEquals("Rua A, casa 2", items.get(299).getAsJsonObject().get("reference").getAsString());
+		assertEquals("299.50", repaired.getAsJsonArray("payments").get(299).getAsJsonObject().get("value").getAsString());
+	}
+
+	@Test
+	public void shouldRepairADocumentWithUnmatchedBracketsAsAWhole() throws IOException {
+		StringBuilder json = new StringBuilder("{items:[");
+		for(int i=0; i<100; i++) {
+			json.append(String.format(RECORD, i, i)).append(',');
+		}
+		json.append("{id:1,values:[1,2}]}");
+
+		StringBuilder out = new StringBuilder();
+
+		assertTrue(parallelService.repair(json, out, true, false));
+		assertEquals(CustomJSONRepairEngineService.repair(json.toString(), false), out.toString());
+	}
+
+	@Test
+	public void shouldCopyAValidJson() throws IOException {
+		String json = "[{\"id\":1},{\"id\":2}]";
+		StringBuilder out = new StringBuilder();
+
+		assertTrue(parallelService.repair(json, out, true, false));
+		assertEquals(json, out.toString());
+	}
+
+	@Test
+	public void shouldNotRepairAnInvalidJson() throws IOException {
+		StringBuilder json = new StringBuilder("[");
+		for(int i=0; i<100; i++) {
+			json.append(String.format(RECORD, i, i)).append(',');
+		}
+		json.append("{blablablabla}]");
+
+		StringBuilder out = new StringBuilder();
+
+		assertFalse(parallelService.repair(json, out, true, true));
+		assertEquals("", out.toString());
+		assertEquals(1, parallelService.getWholeDocumentRepairs());
+	}
+
+	@Test
+	public void shouldRepairOnThePoolOfTheCaller() throws IOException {
+		StringBuilder json = new StringBuilder("[");
+		for(int i=0; i<100; i++) {
+			if(i > 0) json.append(',');
+			json.append(String.format(RECORD, i, i));
+		}
+		json.append("]");
+
+		ForkJoinPool pool = new ForkJoinPool(2);
+		try {
+			CustomJSONParallelRepairService service = new CustomJSONParallelRepairService(
+					new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER), pool, 256);
+
+			for(int i=0; i<3; i++) {
+				StringBuilder out = new StringBuilder();
+				assertTrue(service.repair(json, out, true, false));
+				assertEquals(CustomJSONRepairEngineService.repair(json.toString(), false), out.toString());
+			}
+
+			service.close();
+			assertFalse(pool.isShutdown());
+			assertEquals(0, service.getWholeDocumentRepairs());
+		}finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test(expected=StringIndexOutOfBoundsException.class)
+	public void shouldThrowExceptionOnAJsonObjectWithoutValue() throws IOException {
+		parallelService.repair("{blablablabla}", new StringBuilder(), true, false);
+	}
+
+	@Test(expected=JsonParseException.class)
+	public void shouldThrowExceptionOnATruncatedJson() throws IOException {
+		parallelService.repair("{id:1,name:", new StringBuilder(), true, false);
+	}
+
+}
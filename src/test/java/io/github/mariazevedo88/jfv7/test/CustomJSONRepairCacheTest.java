@@ -0,0 +1,116 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairResult;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONRepairCache;
+
+/**
+ * CustomJSONRepairCache test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONRepairCacheTest {
+
+	private static final String INVALID_JSON = "{id:267107086801,productCode:02-671070868,purchaseDate:2018-07-15}";
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONRepairCache cache;
+
+	@Before
+	public void setUp() {
+		cache = new CustomJSONRepairCache(100);
+		formatter = new CustomJSONFormatterService();
+		formatter.setRepairCache(cache);
+	}
+
+	@Test
+	public void shouldReturnTheCachedResultOfAnIdenticalInput() throws IOException {
+		CustomJSONRepairResult first = formatter.repair(INVALID_JSON, true, true);
+		CustomJSONRepairResult second = formatter.repair(new String(INVALID_JSON.toCharArray()), true, true);
+
+		assertEquals(RepairStatusEnum.REPAIRED, second.getStatus());
+		assertEquals(first.getValidJson(), second.getValidJson());
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void shouldNotShareTheJsonElementBetweenCallers() throws IOException {
+		JsonObject first = formatter.repair(INVALID_JSON, true, true).getValidJson().getAsJsonObject();
+		first.addProperty("changed", true);
+
+		JsonObject second = formatter.repair(INVALID_JSON, true, true).getValidJson().getAsJsonObject();
+
+		assertNotSame(first, second);
+		assertEquals(3, second.size());
+	}
+
+	@Test
+	public void shouldMissWhenTheEngineChanges() throws IOException {
+		formatter.repair(INVALID_JSON, true, true);
+		formatter.setRepairEngine(RepairEngineEnum.TOKENIZER);
+
+		assertEquals(RepairEngineEnum.TOKENIZER, formatter.repair(INVALID_JSON, true, true).getRepairEngine());
+		assertEquals(0, cache.getHitCount());
+		assertNull(new CustomJSONRepairCache(1).get(INVALID_JSON, RepairEngineEnum.LEGACY_REGEX));
+	}
+
+	@Test
+	public void shouldEvictTheLeastRecentlyUsedResults() throws IOException {
+		CustomJSONRepairCache smallCache = new CustomJSONRepairCache(2);
+		formatter.setRepairCache(smallCache);
+
+		formatter.repair("{id:1}", true, true);
+		formatter.repair("{id:2}", true, true);
+		formatter.repair("{id:1}", true, true);
+		formatter.repair("{id:3}", true, true);
+
+		assertEquals(2, smallCache.size());
+		assertEquals(1, smallCache.getEvictionCount());
+		assertEquals(RepairStatusEnum.REPAIRED, smallCache.get("{id:1}", RepairEngineEnum.LEGACY_REGEX).getStatus());
+		assertNull(smallCache.get("{id:2}", RepairEngineEnum.LEGACY_REGEX));
+	}
+
+	@Test
+	public void shouldKeepTheCacheUnderTheMaximumBytes() throws IOException {
+		CustomJSONRepairCache smallCache = new CustomJSONRepairCache(1000, 256);
+		formatter.setRepairCache(smallCache);
+
+		for(int i = 0; i < 50; i++) {
+			formatter.repair("{id:" + i + ",purchaseDate:2018-07-15}", true, true);
+		}
+
+		assertTrue(smallCache.getBytes() <= 256);
+		assertTrue(smallCache.getEvictionCount() > 0);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowsIllegalArgumentExceptionOnAnEmptyCache() {
+		new CustomJSONRepairCache(0);
+	}
+
+	@After
+	public void tearDown() {
+		formatter = null;
+		cache = null;
+	}
+
+}
@@ -0,0 +1,344 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONValidatorFiltersService;
+
+/**
+ * CustomJSONRepairEngine test class, comparing the tokenizer with the regex chain
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONRepairEngineTest {
+
+	private static final String[] INVALID_JSONS = {
+		"{id:267107086801,productCode:02-671070868,lastUpdate:2018-07-15,payment:[{sequential:1,id:CREDIT_CARD,value:188,installments:9}]}",
+		"{id:267111784501,productCode:02-671117845,purchaseDate:2018-07-15,status:APPROVED,estimatedDeliveryDate:2018-09-26,deliveryAddress:{street:Rua Wanderlin Vieira,number:216,reference:,neighborhood:Cachoeira,city:Conselheiro Lafaiete,state:MG,zipcode:36408106,additionalInfo:},paymentMethods:[{sequential:1,id:CREDIT_CARD,value:1216.03,installments:10}]}",
+		"{id:267590641902,productCode:02-675906419,purchaseDate:2018-09-17,status:NEW,deliveryAddress:{street:Rua Baru00e3o do Flamengo,number:35,additionalInfo:311,reference:Entregar na entrada de serviu00e7o, na parte de tru00e1s do pru00e9dio, na rua Senador Vergueiro, num 5.,neighborhood:Flamengo,city:RIO DE JANEIRO,state:RJ,zipcode:22220080},paymentMethods:[{sequential:1,id:VOUCHER,value:70.53,installments:1,idAutorization:null,cardIssuer:null},{sequential:2,id:VOUCHER,value:40.62,installments:1,idAutorization:null,cardIssuer:null}]}",
+		"{id:267034342303,productCode:02-670343423,purchaseDate:2018-07-02,customer:{name:Juliano, Thais Ou Lourdes,deliveryAddress:{street:Rua Landel de Moura,number:1212,additionalInfo:CASA,reference:PRu00d3XIMO DA AV. WENCESLAU ESCOBAR.,neighborhood:Tristeza,city:Porto Alegre,state:RS,zipcode:91920150}},totalAmount:578.79}",
+		"{id:267133121501,productCode:02-671331215,deliveryAddress:{street:Rua Au00e7au00ed,,number:451,additionalInfo:Frente u00e0 Av. Sucupira,,reference:Garagem pequena,,neighborhood:Morada do Sol,city:Presidente Figueiredo,state:AM,zipcode:69735000},totalAmount:169.88}",
+		"{id:267180636401,purchaseTimestamp:2018-07-26 18:00:31,lastUpdateTimestamp:2018-07-26 18:09:22,deliveryAddress:{street:Av. Eugu00eanio Krause, 3034/02,number:3034,reference:zazzazaaa}}",
+		"{id:1234567890, productCode:02-671806364}",
+		"{id:268852005101,productCode:02-688520051,address:{street:Rua B,number:666,additionalInfo:Apto 666 , Bloco 1 ,,reference:Organizacoes Tabajara,city:São Paulo}}",
+		"{id:268862679704,address:{street:Rua Cinco,number:240,reference:Ao lado lotus, Recebimento 7:15 as 17:00,neighborhood:Centro}}",
+		"{id:266861122901,address:{street:Rua Teste,reference:Em frente a padaria ( a casa nao tem porteiro, ou campainha) ligar avisando que chegou,neighborhood:Teste}}",
+		"{id:268856993701,address:{additionalInfo:casa FRENTE. 21965307587,reference:depois do ponto de onibus 666, no seguno numero. Procurar fulano  TELE: 35 981149567 .,neighborhood:Jardim Floresta}}",
+		"{pf:{cpf:11122233385,name:MARIANA DE AZEVEDO SANTOS}, localDate:2019-02-01}",
+		"{totalAmount:326.98,products:[{link:{id:BLABLABLA-1,rel:sku},quantity:1,price:246.99}, {link:{id:BLABLABLA-2,rel:sku},quantity:1,price:246.99}]}",
+		"{id: ,}"
+	};
+
+	private CustomJSONFormatterService legacyFormatter;
+	private CustomJSONFormatterService tokenizerFormatter;
+
+	@Before
+	public void setUp() {
+		legacyFormatter = new CustomJSONFormatterService();
+		tokenizerFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+	}
+
+	@Test
+	public void shouldUseLegacyEngineByDefault() {
+		assertEquals(RepairEngineEnum.LEGACY_REGEX, legacyFormatter.getRepairEngine());
+	}
+
+	@Test
+	public void shouldGetTheSameJSONFromBothEngines() throws IOException {
+		for(String invalidJson : INVALID_JSONS) {
+			JsonElement legacyJson = legacyFormatter.checkValidityAndFormatObject(invalidJson, true, false);
+			JsonElement tokenizerJson = tokenizerFormatter.checkValidityAndFormatObject(invalidJson, true, false);
+			assertEquals(invalidJson, legacyJson, tokenizerJson);
+		}
+	}
+
+	@Test
+	public void shouldKeepValuesThatAppearInOtherFieldsBrokenByCommas() throws IOException {
+		String jsonWithDotBeforeComma = "{billingAddress:{additionalInfo:Bloco B, pru00e9dio vermelho.,reference:Pru00f3ximo ao shopping},totalAmount:169.89}";
+		JsonObject json = (JsonObject) tokenizerFormatter.checkValidityAndFormatObject(jsonWithDotBeforeComma, true, false);
+
+		assertEquals("Bloco B, pru00e9dio vermelho.", json.getAsJsonObject("billingAddress").get("additionalInfo").getAsString());
+		assertEquals("169.89", json.get("totalAmount").getAsString());
+	}
+
+	@Test
+	public void shouldKeepStringsAlreadyQuoted() throws IOException {
+		JsonObject json = (JsonObject) tokenizerFormatter.checkValidityAndFormatObject("{\"name\":\"Mariana, \\\"Mari\\\"\",age:31}", true, false);
+		assertEquals("Mariana, \"Mari\"", json.get("name").getAsString());
+		assertEquals("31", json.get("age").getAsString());
+	}
+
+	@Test
+	public void shouldWriteNumbersBooleansAndNullAsJSONTypes() throws IOException {
+		CustomJSONFormatterService typedFormatter = new CustomJSONFormatterService(RepairEngineEnum.TYPED_TOKENIZER);
+		JsonObject json = (JsonObject) typedFormatter.checkValidityAndFormatObject(
+				"{id:267107086801,value:188,50,active:true,cardIssuer:null,zipcode:00026310,purchaseDate:2018-07-15}", true, false);
+
+		assertEquals(267107086801L, json.get("id").getAsJsonPrimitive().getAsLong());
+		assertTrue(json.get("value").getAsJsonPrimitive().isNumber());
+		assertEquals(188.5, json.get("value").getAsDouble(), 0);
+		assertTrue(json.get("active").getAsJsonPrimitive().isBoolean());
+		assertTrue(json.get("cardIssuer").isJsonNull());
+		assertEquals("\"00026310\"", json.get("zipcode").toString());
+		assertEquals("\"2018-07-15\"", json.get("purchaseDate").toString());
+	}
+
+	@Test(timeout = 5000)
+	public void shouldCloseAnArrayClosedByABrace() throws IOException {
+		JsonElement json = tokenizerFormatter.checkValidityAndFormatObject("{a:[1}", true, false);
+		assertEquals("{\"a\":[\"1\"]}", json.toString());
+	}
+
+	@Test
+	public void shouldWriteTheSameJSONOfTheTreeWithoutParsingIt() throws IOException {
+		for(String invalidJson : INVALID_JSONS) {
+			for(CustomJSONFormatterService formatter : new CustomJSONFormatterService[] {legacyFormatter, tokenizerFormatter}) {
+				StringWriter writer = new StringWriter();
+				assertTrue(formatter.repairTo(invalidJson, writer, true, false));
+				assertTrue(writer.toString(), CustomJSONValidatorFiltersService.isValidJson(writer.toString()));
+				assertEquals(invalidJson, formatter.checkValidityAndFormatObject(invalidJson, true, false), 
+						JsonParser.parseString(writer.toString()));
+			}
+		}
+	}
+
+	@Test
+	public void shouldWriteALenientJSONAsAStrictJSON() throws IOException {
+		StringWriter writer = new StringWriter();
+		assertTrue(legacyFormatter.repairTo("{'a':'x'}", writer, true, false));
+		assertEquals("{\"a\":\"x\"}", writer.toString());
+
+		ByteBuffer buffer = ByteBuffer.allocate(256);
+		assertTrue(legacyFormatter.repairTo(INVALID_JSONS[0], buffer, true, false));
+		String repaired = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+		assertTrue(repaired, CustomJSONValidatorFiltersService.isValidJson(repaired));
+		assertTrue(repaired, repaired.contains("\"payment\":[{"));
+	}
+
+	@Test
+	public void shouldPutTheRepairedJSONInAByteBuffer() {
+		ByteBuffer buffer = ByteBuffer.allocate(64);
+		assertTrue(tokenizerFormatter.repairTo("{name:Jo\u00e3o}", buffer, true, false));
+		assertEquals("{\"name\":\"Jo\u00e3o\"}", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void shouldRepairStraightFromUTF8Bytes() {
+		byte[] message = "header{name:Jo\u00e3o, \ud83d\ude00,value:188,50}footer".getBytes(StandardCharsets.UTF_8);
+		int length = message.length - "header".length() - "footer".length();
+		ByteBuffer buffer = ByteBuffer.allocate(128);
+
+		assertTrue(tokenizerFormatter.repairTo(message, "header".length(), length, buffer, true, false));
+		assertEquals("{\"name\":\"Jo\u00e3o, \ud83d\ude00\",\"value\":\"188.50\"}", 
+				new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void shouldCopyAValidJSONFromAByteBufferWithoutChangingIt() {
+		ByteBuffer input = ByteBuffer.wrap("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+		ByteBuffer output = ByteBuffer.allocate(16);
+
+		assertTrue(legacyFormatter.repairTo(input, output, true, false));
+		assertEquals(0, input.position());
+		assertEquals("{\"id\":1}", new String(output.array(), 0, output.position(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void shouldNotPutBytesOfAJSONThatCouldNotBeRepaired() {
+		ByteBuffer output = ByteBuffer.allocate(16);
+		assertFalse(tokenizerFormatter.repairTo(ByteBuffer.wrap("{a:1".getBytes(StandardCharsets.UTF_8)), output, true, true));
+		assertEquals(0, output.position());
+	}
+
+	@Test
+	public void shouldNotWriteAJSONThatCouldNotBeRepaired() throws IOException {
+		StringBuilder builder = new StringBuilder();
+		assertFalse(legacyFormatter.repairTo("{id}", builder, true, true));
+		assertEquals(0, builder.length());
+	}
+
+	@Test(expected = JsonParseException.class)
+	public void shouldThrowsJsonParseExceptionIfParamIsEmptyString() throws IOException {
+		tokenizerFormatter.checkValidityAndFormatObject("", false, false);
+	}
+
+	@Test(expected = StringIndexOutOfBoundsException.class)
+	public void shouldThrowsStringIndexOutOfBoundsExceptionFromEmptyObjectAsString() throws IOException {
+		tokenizerFormatter.checkValidityAndFormatObject("{}", false, false);
+	}
+
+	@Test(expected = StringIndexOutOfBoundsException.class)
+	public void shouldThrowsStringIndexOutOfBoundsExceptionFromJsonObjectWithoutValue() throws IOException {
+		tokenizerFormatter.checkValidityAndFormatObject("{blablablabla}", false, false);
+	}
+
+	@Test
+	public void shouldNotThrowsStringIndexOutOfBoundsExceptionWithMuteExceptionFlag() throws IOException {
+		assertNull(tokenizerFormatter.checkValidityAndFormatObject("[]", false, true));
+	}
+
+	@Test
+	public void shouldGetValidJSONArrayFromMalformedString() throws IOException {
+		JsonElement json = tokenizerFormatter.checkValidityAndFormatObject("[{id:1,tags:[a,b]},{id:2}]", false, false);
+		assertTrue(json.isJsonArray());
+		assertEquals(2, json.getAsJsonArray().get(0).getAsJsonObject().getAsJsonArray("tags").size());
+	}
+
+	@Test
+	public void shouldRepairMultiLineJSONFromReader() throws IOException {
+		StringWriter writer = new StringWriter();
+		boolean repaired = tokenizerFormatter.repair(new StringReader("{id:267107086801,\n productCode:02-671070868,\n payment:[{value:188,installments:9}]\n}"), writer, true, false);
+
+		assertTrue(repaired);
+		JsonObject json = JsonParser.parseString(writer.toString()).getAsJsonObject();
+		assertEquals("02-671070868", json.get("productCode").getAsString());
+		assertEquals("9", json.getAsJsonArray("payment").get(0).getAsJsonObject().get("installments").getAsString());
+	}
+
+	@Test
+	public void shouldGetTheSameJSONFromStreamingRepair() throws IOException {
+		for(String invalidJson : INVALID_JSONS) {
+			StringWriter writer = new StringWriter();
+			tokenizerFormatter.repair(new StringReader(invalidJson), writer, true, false);
+			assertEquals(invalidJson, tokenizerFormatter.checkValidityAndFormatObject(invalidJson, true, false), JsonParser.parseString(writer.toString()));
+		}
+	}
+
+	@Test
+	public void shouldRepairLargeDocumentFromStream() throws IOException {
+		final int records = 100000;
+		Reader reader = new Reader() {
+			private int record = -1;
+			private String chunk = "[";
+			private int index;
+
+			@Override
+			public int read(char[] buffer, int offset, int length) {
+				if(index == chunk.length()) {
+					if(++record > records) return -1;
+					chunk = record == records ? "]" : (record > 0 ? "," : "") + "{id:" + record + ",street:Rua " + record + ", casa 2,value:10,5}";
+					index = 0;
+				}
+				int size = Math.min(length, chunk.length() - index);
+				chunk.getChars(index, index + size, buffer, offset);
+				index += size;
+				return size;
+			}
+
+			@Override
+			public void close() {
+				//nothing to close
+			}
+		};
+
+		StringWriter writer = new StringWriter();
+		assertTrue(tokenizerFormatter.repair(reader, writer, true, false));
+
+		JsonArray json = JsonParser.parseString(writer.toString()).getAsJsonArray();
+		assertEquals(records, json.size());
+		assertEquals("Rua 99999, casa 2", json.get(records - 1).getAsJsonObject().get("street").getAsString());
+		assertEquals("10.5", json.get(records - 1).getAsJsonObject().get("value").getAsString());
+	}
+
+	@Test
+	public void shouldRepairJSONFromInputStream() throws IOException {
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		byte[] bytes = "{city:São Paulo,state:SP}".getBytes(StandardCharsets.UTF_8);
+
+		assertTrue(tokenizerFormatter.repair(new ByteArrayInputStream(bytes), outputStream, true, false));
+		assertEquals("{\"city\":\"São Paulo\",\"state\":\"SP\"}", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+	}
+
+	@Test(expected = JsonParseException.class)
+	public void shouldThrowsJsonParseExceptionFromTruncatedStream() throws IOException {
+		tokenizerFormatter.repair(new StringReader("{id:1,address:{street:Rua B"), new StringWriter(), true, false);
+	}
+
+	@Test
+	public void shouldNotThrowsExceptionFromTruncatedStreamWithMuteExceptionFlag() throws IOException {
+		assertFalse(tokenizerFormatter.repair(new StringReader("{id:1,address:{street:Rua B"), new StringWriter(), true, true));
+	}
+
+	@Test
+	public void shouldAllocateOnlyTheRepairedJSON() {
+		final String json = buildLargeJson(1000);
+		final StringBuilder repaired = new StringBuilder(json.length() << 1);
+
+		long repairBytes = CustomJSONAllocationMeter.measureAllocatedBytes(new Runnable() {
+			@Override
+			public void run() {
+				repaired.setLength(0);
+				try {
+					assertTrue(tokenizerFormatter.repairTo(json, repaired, true, false));
+				}catch(IOException e) {
+					throw new AssertionError(e);
+				}
+			}
+		});
+		long outputBytes = CustomJSONAllocationMeter.measureAllocatedBytes(new Runnable() {
+			@Override
+			public void run() {
+				assertFalse(repaired.toString().isEmpty());
+			}
+		});
+
+		//the buffers of the tokenizer are reused, only the repaired string is new
+		assertTrue(repairBytes + " bytes for an output of " + outputBytes, repairBytes < outputBytes + 1024);
+	}
+
+	@Test
+	public void shouldRepairBetweenByteBuffersWithoutAllocatingBuffers() {
+		final byte[] json = buildLargeJson(1000).getBytes(StandardCharsets.UTF_8);
+		final ByteBuffer output = ByteBuffer.allocate(json.length << 1);
+
+		long repairBytes = CustomJSONAllocationMeter.measureAllocatedBytes(new Runnable() {
+			@Override
+			public void run() {
+				output.clear();
+				assertTrue(tokenizerFormatter.repairTo(ByteBuffer.wrap(json), output, true, false));
+			}
+		});
+
+		assertTrue(repairBytes + " bytes for " + json.length + " bytes", repairBytes < 1024);
+	}
+
+	private static String buildLargeJson(int fields) {
+		StringBuilder json = new StringBuilder("{");
+		for(int i=0; i<fields; i++) {
+			json.append("field").append(i).append(":Rua A, casa ").append(i).append(',');
+		}
+		return json.append("last:{value:188,50}}").toString();
+	}
+
+	@After
+	public void tearDown() {
+		legacyFormatter = null;
+		tokenizerFormatter = null;
+	}
+
+}
@@ -0,0 +1,128 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.Test;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairError;
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairResult;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairErrorEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONValidatorFiltersService;
+
+/**
+ * CustomJSONRepairError test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONRepairErrorTest {
+
+	private final CustomJSONValidatorFiltersService validator = new CustomJSONValidatorFiltersService();
+
+	@Test
+	public void shouldReportTheErrorOfTheTokenizerWithItsPosition() throws IOException {
+		CustomJSONRepairResult result = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER)
+				.repair("{blablablabla}", true, true);
+
+		assertEquals(RepairStatusEnum.INVALID, result.getStatus());
+		CustomJSONRepairError error = result.getError();
+		assertEquals(RepairErrorEnum.INVALID_STRUCTURE, error.getCode());
+		assertNull(error.getStage());
+		assertEquals(1, error.getOffset());
+		assertEquals(1, error.getLine());
+		assertEquals(2, error.getColumn());
+	}
+
+	@Test
+	public void shouldReportTheStageOfTheLegacyEngine() throws IOException {
+		CustomJSONRepairError error = new CustomJSONFormatterService().repair("{blablablabla}", true, true).getError();
+
+		assertEquals(RepairErrorEnum.INVALID_STRUCTURE, error.getCode());
+		assertEquals(RepairStageEnum.BROKEN_VALUES, error.getStage());
+		assertEquals(-1, error.getOffset());
+		assertEquals(0, error.getLine());
+	}
+
+	@Test
+	public void shouldReportTheLineAndColumnOfTheRepairedJson() throws IOException {
+		CustomJSONRepairResult result = new CustomJSONFormatterService().repair("{id:1,\nreference:Rua A, casa 2}", true, true);
+
+		CustomJSONRepairError error = result.getError();
+		assertEquals(RepairErrorEnum.INVALID_REPAIRED_JSON, error.getCode());
+		assertEquals(result.getRepairedJson().indexOf("reference:") + 14, error.getOffset());
+		assertEquals(2, error.getLine());
+		assertEquals(15, error.getColumn());
+	}
+
+	@Test
+	public void shouldReportNullAndEmptyJsons() throws IOException {
+		assertEquals(RepairErrorEnum.NULL_JSON, new CustomJSONFormatterService().repair(null, true, true).getError().getCode());
+		assertEquals(RepairErrorEnum.EMPTY_JSON, new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER)
+				.repair("", true, true).getError().getCode());
+	}
+
+	@Test
+	public void shouldNotReportErrorsOfRepairedJsons() throws IOException {
+		CustomJSONRepairResult result = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER)
+				.repair("{id:1,reference:Rua A, casa 2}", true, true);
+
+		assertEquals(RepairStatusEnum.REPAIRED, result.getStatus());
+		assertNull(result.getError());
+	}
+
+	@Test
+	public void shouldThrowTheExceptionOfTheErrorWhenNotMuted() throws IOException {
+		assertThrows(NullPointerException.class, null, RepairEngineEnum.LEGACY_REGEX);
+		assertThrows(StringIndexOutOfBoundsException.class, "{blablablabla}", RepairEngineEnum.LEGACY_REGEX);
+		assertThrows(StringIndexOutOfBoundsException.class, "{blablablabla}", RepairEngineEnum.TOKENIZER);
+		assertThrows(JsonParseException.class, "", RepairEngineEnum.TOKENIZER);
+		assertThrows(JsonSyntaxException.class, "[1,2", RepairEngineEnum.TYPED_TOKENIZER);
+
+		assertTrue(new CustomJSONRepairError(RepairErrorEnum.INCOMPLETE_JSON, null, "").toException() instanceof JsonParseException);
+	}
+
+	@Test
+	public void shouldFindTheOffsetWhereTheParserStops() {
+		assertEquals(-1, validator.getUnparsableJsonOffset("{a:1}"));
+		assertEquals(-1, validator.getUnparsableJsonOffset("{'a' => b; c = [1,,2]} "));
+		assertEquals(-1, validator.getUnparsableJsonOffset("{a:1 // comment\n}"));
+		assertEquals(6, validator.getUnparsableJsonOffset("{a:1} //c"));
+		assertEquals(5, validator.getUnparsableJsonOffset("{a:1,}"));
+		assertEquals(0, validator.getUnparsableJsonOffset("1"));
+		assertEquals(4, validator.getUnparsableJsonOffset("[1,2"));
+
+		assertTrue(validator.isParsableJson("{a:1}"));
+		assertFalse(validator.isParsableJson("{a:1} //c"));
+		assertFalse(validator.isParsableJson(null));
+	}
+
+	private static void assertThrows(Class<? extends RuntimeException> type, String json, RepairEngineEnum engine) throws IOException {
+		CustomJSONRepairResult result = new CustomJSONFormatterService(engine).repair(json, true, true);
+		RuntimeException expected = result.getError().toException();
+		assertEquals(type, expected.getClass());
+
+		try {
+			new CustomJSONFormatterService(engine).repair(json, true, false);
+		} catch (RuntimeException e) {
+			assertEquals(type, e.getClass());
+			assertEquals(expected.getMessage(), e.getMessage());
+			return;
+		}
+
+		throw new AssertionError("Expected " + type.getName());
+	}
+
+}
@@ -0,0 +1,136 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonParseException;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairPatternEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONInMemoryRepairMetrics;
+import io.github.mariazevedo88.jfv7.service.CustomJSONRepairMetrics;
+
+/**
+ * CustomJSONInMemoryRepairMetrics test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONRepairMetricsTest {
+
+	private static final String VALID_JSON = "{\"id\":1}";
+	private static final String JSON_WITH_DECIMAL_AND_TIME = "{id:2,price:99,90,purchaseTime:07:45:10,street:Rua B, 12}";
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONInMemoryRepairMetrics metrics;
+
+	@Before
+	public void setUp() {
+		metrics = new CustomJSONInMemoryRepairMetrics();
+		formatter = new CustomJSONFormatterService();
+		formatter.setRepairMetrics(metrics);
+	}
+
+	@Test
+	public void shouldCountValidRepairedAndRejectedJsons() throws IOException {
+		formatter.repair(VALID_JSON, true, true);
+		formatter.repair(JSON_WITH_DECIMAL_AND_TIME, true, true);
+		formatter.repair("{blablablabla}", true, true);
+
+		assertEquals(3, metrics.getCount());
+		assertEquals(1, metrics.getCount(RepairStatusEnum.VALID));
+		assertEquals(1, metrics.getCount(RepairStatusEnum.REPAIRED));
+		assertEquals(1, metrics.getCount(RepairStatusEnum.INVALID));
+		assertEquals(3, metrics.getCount(RepairEngineEnum.LEGACY_REGEX));
+		assertEquals(VALID_JSON.length() + JSON_WITH_DECIMAL_AND_TIME.length() + "{blablablabla}".length(), metrics.getInputLength());
+		assertEquals(VALID_JSON.length() + new CustomJSONFormatterService().repair(JSON_WITH_DECIMAL_AND_TIME, true, true).getRepairedJson().length(), 
+				metrics.getOutputLength());
+	}
+
+	@Test
+	public void shouldCountTheStagesAndPatternsThatChangedTheJson() throws IOException {
+		formatter.repair(JSON_WITH_DECIMAL_AND_TIME, true, true);
+
+		assertEquals(1, metrics.getCount(RepairStageEnum.MALFORMATED_FIELDS));
+		assertEquals(1, metrics.getCount(RepairStageEnum.KEY_AND_VALUE));
+		assertEquals(1, metrics.getCount(RepairStageEnum.BROKEN_VALUES));
+		assertEquals(1, metrics.getCount(RepairStageEnum.CONTROL_DELIMITERS));
+		assertEquals(0, metrics.getCount(RepairStageEnum.EMPTY_FIELDS));
+		assertEquals(1, metrics.getCount(RepairPatternEnum.DECIMAL_NUMBER_WITH_COMMA));
+		assertEquals(1, metrics.getCount(RepairPatternEnum.HOURS_WITH_SECONDS));
+		assertEquals(0, metrics.getCount(RepairPatternEnum.HOURS));
+	}
+
+	@Test
+	public void shouldCountARejectedJsonThatThrowsException() throws IOException {
+		try {
+			formatter.repair("{blablablabla}", true, false);
+		}catch(StringIndexOutOfBoundsException e) {
+			//expected, the call is still recorded
+		}
+
+		assertEquals(1, metrics.getCount(RepairStatusEnum.INVALID));
+	}
+
+	@Test
+	public void shouldRecordTheBytesOfTheByteInput() {
+		formatter.setRepairEngine(RepairEngineEnum.TOKENIZER);
+		ByteBuffer out = ByteBuffer.allocate(256);
+		byte[] json = "{name:João}".getBytes(StandardCharsets.UTF_8);
+
+		assertTrue(formatter.repairTo(json, 0, json.length, out, true, true));
+		assertEquals(json.length, metrics.getInputLength());
+		assertEquals(out.position(), metrics.getOutputLength());
+		assertEquals(1, metrics.getCount(RepairStatusEnum.REPAIRED));
+	}
+
+	@Test(expected = JsonParseException.class)
+	public void shouldCountARejectedTextBeforeTheException() throws IOException {
+		formatter.setRepairEngine(RepairEngineEnum.TOKENIZER);
+		try {
+			formatter.repairTo("{id:1,name:", new StringBuilder(), true, false);
+		}finally {
+			assertEquals(1, metrics.getCount(RepairStatusEnum.INVALID));
+		}
+	}
+
+	@Test
+	public void shouldKeepTheLatenciesInBucketsOfPowersOfTwo() {
+		metrics.recordRepair(RepairEngineEnum.TOKENIZER, RepairStatusEnum.VALID, 1000, 0, 0);
+		metrics.recordRepair(RepairEngineEnum.TOKENIZER, RepairStatusEnum.VALID, 1023, 0, 0);
+		metrics.recordRepair(RepairEngineEnum.TOKENIZER, RepairStatusEnum.VALID, 5000, 0, 0);
+
+		assertEquals(2, metrics.getLatencyHistogram()[10]);
+		assertEquals(1, metrics.getLatencyHistogram()[13]);
+		assertEquals(1023, metrics.getLatencyPercentile(50));
+		assertEquals(8191, metrics.getLatencyPercentile(99));
+		assertEquals(7023, metrics.getTotalNanos());
+
+		metrics.reset();
+
+		assertEquals(0, metrics.getCount());
+		assertEquals(0, metrics.getLatencyPercentile(99));
+	}
+
+	@Test
+	public void shouldNotRecordWithoutMetrics() throws IOException {
+		formatter.setRepairMetrics(null);
+		formatter.repair(JSON_WITH_DECIMAL_AND_TIME, true, true);
+
+		assertSame(CustomJSONRepairMetrics.NO_OP, formatter.getRepairMetrics());
+		assertEquals(0, metrics.getCount());
+	}
+
+}
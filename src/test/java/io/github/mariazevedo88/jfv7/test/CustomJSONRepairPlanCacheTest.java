@@ -0,0 +1,86 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.IOException;
+import java.util.EnumSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairPatternEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONRepairPlanCache;
+
+/**
+ * CustomJSONRepairPlanCache test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONRepairPlanCacheTest {
+
+	private static final String FIRST_JSON = "{id:1,purchaseTimestamp:2018-07-26 18:00:31,reference:Rua Acai, casa 2,value:188,50}";
+	private static final String SECOND_JSON = "{id:27,purchaseTimestamp:2019-01-02 09:10:11,reference:Rua Bela, casa 92,value:1,05}";
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONFormatterService plainFormatter;
+	private CustomJSONRepairPlanCache planCache;
+
+	@Before
+	public void setUp() {
+		planCache = new CustomJSONRepairPlanCache(10);
+		formatter = new CustomJSONFormatterService();
+		formatter.setRepairPlanCache(planCache);
+		plainFormatter = new CustomJSONFormatterService();
+	}
+
+	@Test
+	public void shouldRepairAnInputWithALearnedShapeAsTheWholeChainOfPatterns() throws IOException {
+		formatter.repair(FIRST_JSON, true, true);
+
+		assertEquals(plainFormatter.repair(SECOND_JSON, true, true).getRepairedJson(), 
+				formatter.repair(SECOND_JSON, true, true).getRepairedJson());
+		assertEquals(1, planCache.size());
+		assertEquals(1, planCache.getHitCount());
+		assertEquals(0, planCache.getFallbackCount());
+	}
+
+	@Test
+	public void shouldHaveDifferentFingerprintsForDifferentKeysOrMistakes() {
+		assertEquals(CustomJSONRepairPlanCache.fingerprint(FIRST_JSON), CustomJSONRepairPlanCache.fingerprint(SECOND_JSON));
+		assertNotEquals(CustomJSONRepairPlanCache.fingerprint("{id:1,value:188.50}"), 
+				CustomJSONRepairPlanCache.fingerprint("{id:1,value:188,50}"));
+		assertNotEquals(CustomJSONRepairPlanCache.fingerprint("{id:1,value:2}"), 
+				CustomJSONRepairPlanCache.fingerprint("{id:1,price:2}"));
+	}
+
+	@Test
+	public void shouldFallbackToTheWholeChainOfPatternsIfThePlanFails() throws IOException {
+		planCache.put(CustomJSONRepairPlanCache.fingerprint(FIRST_JSON), EnumSet.noneOf(RepairPatternEnum.class));
+
+		assertEquals(plainFormatter.repair(FIRST_JSON, true, true).getRepairedJson(), 
+				formatter.repair(FIRST_JSON, true, true).getRepairedJson());
+		assertEquals(1, planCache.getFallbackCount());
+		
+		//the plan is learned again from the whole chain
+		formatter.repair(SECOND_JSON, true, true);
+		assertEquals(1, planCache.getFallbackCount());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowsIllegalArgumentExceptionOnAnEmptyCache() {
+		new CustomJSONRepairPlanCache(0);
+	}
+
+	@After
+	public void tearDown() {
+		formatter = null;
+		plainFormatter = null;
+		planCache = null;
+	}
+
+}
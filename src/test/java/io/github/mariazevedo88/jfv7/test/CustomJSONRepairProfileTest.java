@@ -0,0 +1,187 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairPatternEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStageEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONInMemoryRepairMetrics;
+import io.github.mariazevedo88.jfv7.service.CustomJSONPatternRepairRule;
+import io.github.mariazevedo88.jfv7.service.CustomJSONRepairCache;
+import io.github.mariazevedo88.jfv7.service.CustomJSONRepairPlanCache;
+import io.github.mariazevedo88.jfv7.service.CustomJSONRepairProfile;
+import io.github.mariazevedo88.jfv7.service.CustomJSONRepairRule;
+
+/**
+ * CustomJSONRepairProfile test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONRepairProfileTest {
+
+	private static final String PRODUCER_JSON = "{id:7,amount:1250,75,street:Av. Brasil, 500}";
+
+	@Test
+	public void shouldApplyAllThePatternsInOrderByDefault() throws IOException {
+		List<CustomJSONRepairRule> rules = CustomJSONRepairProfile.DEFAULT.getRules();
+
+		assertEquals(RepairPatternEnum.values().length, rules.size());
+		for(int i = 0; i < rules.size(); i++) {
+			assertEquals(RepairPatternEnum.values()[i], ((CustomJSONPatternRepairRule) rules.get(i)).getPattern());
+		}
+
+		CustomJSONFormatterService formatter = new CustomJSONFormatterService();
+		assertSame(CustomJSONRepairProfile.DEFAULT, formatter.getRepairProfile());
+		assertEquals("{\"id\": \"7\",\"amount\": \"1250.75\",\"street\": \"Av. Brasil, 500\"}",
+				formatter.repair(PRODUCER_JSON, true, true).getRepairedJson());
+	}
+
+	@Test
+	public void shouldRepairWithAReducedProfile() throws IOException {
+		CustomJSONFormatterService formatter = new CustomJSONFormatterService();
+		String repaired = formatter.repair(PRODUCER_JSON, true, true).getRepairedJson();
+
+		formatter.setRepairProfile(CustomJSONRepairProfile.DEFAULT.without("producer", RepairPatternEnum.LEFT_PARENTHESES,
+				RepairPatternEnum.RIGHT_PARENTHESES, RepairPatternEnum.COLON_WRONGLY_PLACED));
+		assertEquals(RepairPatternEnum.values().length - 3, formatter.getRepairProfile().getRules().size());
+		assertEquals(repaired, formatter.repair(PRODUCER_JSON, true, true).getRepairedJson());
+
+		formatter.setRepairProfile(CustomJSONRepairProfile.DEFAULT.without("no decimals", RepairPatternEnum.DECIMAL_NUMBER_WITH_COMMA));
+		assertNotEquals(repaired, formatter.repair(PRODUCER_JSON, true, true).getRepairedJson());
+
+		formatter.setRepairProfile(null);
+		assertSame(CustomJSONRepairProfile.DEFAULT, formatter.getRepairProfile());
+	}
+
+	@Test
+	public void shouldNotReturnTheResultsCachedWithAnotherProfile() throws IOException {
+		CustomJSONFormatterService formatter = new CustomJSONFormatterService();
+		CustomJSONRepairCache cache = new CustomJSONRepairCache(100);
+		CustomJSONRepairPlanCache planCache = new CustomJSONRepairPlanCache(100);
+		formatter.setRepairCache(cache);
+		formatter.setRepairPlanCache(planCache);
+
+		String repaired = formatter.repair(PRODUCER_JSON, true, true).getRepairedJson();
+
+		formatter.setRepairProfile(CustomJSONRepairProfile.DEFAULT.without("no decimals", RepairPatternEnum.DECIMAL_NUMBER_WITH_COMMA));
+		String repairedWithoutDecimals = formatter.repair(PRODUCER_JSON, true, true).getRepairedJson();
+		assertNotEquals(repaired, repairedWithoutDecimals);
+		assertEquals(0, cache.getHitCount());
+		assertEquals(2, planCache.size());
+
+		formatter.setRepairCache(null);
+		assertEquals(repairedWithoutDecimals, formatter.repair(PRODUCER_JSON, true, true).getRepairedJson());
+		assertEquals(1, planCache.getHitCount());
+	}
+
+	@Test
+	public void shouldApplyTheRulesAfterBrokenValuesAtTheEnd() {
+		CustomJSONRepairProfile profile = CustomJSONRepairProfile.of("reordered", RepairPatternEnum.SEMICOLON,
+				RepairPatternEnum.KEY_AND_VALUE, RepairPatternEnum.DOUBLE_SEMICOLON, RepairPatternEnum.HOURS);
+		List<RepairPatternEnum> patterns = new ArrayList<>();
+
+		for(CustomJSONRepairRule rule : profile.getRules()) {
+			patterns.add(((CustomJSONPatternRepairRule) rule).getPattern());
+		}
+
+		assertEquals(Arrays.asList(RepairPatternEnum.KEY_AND_VALUE, RepairPatternEnum.HOURS, RepairPatternEnum.SEMICOLON,
+				RepairPatternEnum.DOUBLE_SEMICOLON), patterns);
+	}
+
+	@Test
+	public void shouldSkipTheRulesWhosePreCheckFails() throws IOException {
+		CountingRule rule = new CountingRule();
+		List<CustomJSONRepairRule> rules = new ArrayList<CustomJSONRepairRule>(CustomJSONRepairProfile.DEFAULT.getRules());
+		rules.add(0, rule);
+
+		CustomJSONInMemoryRepairMetrics metrics = new CustomJSONInMemoryRepairMetrics();
+		CustomJSONFormatterService formatter = new CustomJSONFormatterService();
+		formatter.setRepairProfile(new CustomJSONRepairProfile("custom", rules));
+		formatter.setRepairMetrics(metrics);
+
+		assertEquals(RepairStatusEnum.REPAIRED, formatter.repair(PRODUCER_JSON, true, true).getStatus());
+		assertEquals(0, rule.calls);
+		assertEquals(0, metrics.getCount(RepairStageEnum.EMPTY_FIELDS));
+
+		assertEquals("{\"id\": \"1\",\"value\": \"0\"}", formatter.repair("{id:1,value:NaN}", true, true).getRepairedJson());
+		assertEquals(1, rule.calls);
+		assertEquals(1, metrics.getCount(RepairStageEnum.EMPTY_FIELDS));
+	}
+
+	@Test
+	public void shouldCheckThePatternsWithoutTheRegex() {
+		assertTrue(RepairPatternEnum.DECIMAL_NUMBER_WITH_COMMA.isApplicable("{value:188,50}"));
+		assertFalse(RepairPatternEnum.DECIMAL_NUMBER_WITH_COMMA.isApplicable("{id:1,value:a,5}"));
+		assertTrue(RepairPatternEnum.COLON_WRONGLY_PLACED.isApplicable("{id:1,BR:x}"));
+		assertFalse(RepairPatternEnum.COLON_WRONGLY_PLACED.isApplicable("{id:1,br:x}"));
+		assertFalse(RepairPatternEnum.LEFT_PARENTHESES.isApplicable("{id:1}"));
+		assertTrue(RepairPatternEnum.DOUBLE_COMMA_WITH_SPACE.isApplicable("{a:1 ,,b:2}"));
+		assertFalse(RepairPatternEnum.DOUBLE_COMMA_WITH_SPACE.isApplicable("{a:1,,b:2}"));
+	}
+
+	@Test
+	public void shouldReplaceIntoABufferAsTheMatcher() {
+		String[] inputs = {"{value:188,50,time:18:00:31,reference:Rua A (casa) ,,B:x:,y:}", "{id:1,,name:'a'}", "{}"};
+		StringBuilder buffer = new StringBuilder();
+
+		for(RepairPatternEnum pattern : RepairPatternEnum.values()) {
+			for(String input : inputs) {
+				String expected = pattern.getPattern().matcher(input).replaceAll(pattern.getReplacement());
+				buffer.setLength(0);
+
+				assertEquals(pattern + " " + input, !expected.equals(input), pattern.replaceAll(input, buffer));
+				assertEquals(pattern + " " + input, expected, buffer.length() == 0 ? input : buffer.toString());
+				assertEquals(pattern + " " + input, expected, pattern.replaceAll(input));
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldRejectRulesWithoutStage() {
+		new CustomJSONRepairProfile("invalid", Arrays.asList(new CountingRule() {
+			@Override
+			public RepairStageEnum getStage() {
+				return null;
+			}
+		}));
+	}
+
+	/**
+	 * Rule that replaces NaN values by zero, counting how many times it was applied
+	 */
+	private static class CountingRule implements CustomJSONRepairRule {
+
+		private int calls;
+
+		@Override
+		public RepairStageEnum getStage() {
+			return RepairStageEnum.EMPTY_FIELDS;
+		}
+
+		@Override
+		public boolean isApplicable(String json) {
+			return json.contains("NaN");
+		}
+
+		@Override
+		public String apply(String json) {
+			calls++;
+			return json.replace("NaN", "0");
+		}
+	}
+
+}
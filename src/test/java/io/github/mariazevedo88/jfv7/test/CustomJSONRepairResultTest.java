@@ -0,0 +1,115 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairResult;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairEngineEnum;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+
+/**
+ * CustomJSONRepairResult test class, with the stateless API of the formatter
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONRepairResultTest {
+
+	private CustomJSONFormatterService formatter;
+
+	@Before
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+	}
+
+	@Test
+	public void shouldGetRepairedResultFromInvalidJSON() throws IOException {
+		CustomJSONRepairResult result = formatter.repair("{id:267107086801,productCode:02-671070868}", true, false);
+
+		assertEquals(RepairStatusEnum.REPAIRED, result.getStatus());
+		assertEquals(RepairEngineEnum.LEGACY_REGEX, result.getRepairEngine());
+		assertEquals("{\"id\": \"267107086801\",\"productCode\": \"02-671070868\"}", result.getRepairedJson());
+		assertEquals("267107086801", result.getValidJson().getAsJsonObject().get("id").getAsString());
+	}
+
+	@Test
+	public void shouldGetValidResultFromJSONObject() throws IOException {
+		JsonObject jsonObject = new JsonObject();
+		jsonObject.addProperty("name", "Mariana");
+
+		CustomJSONRepairResult result = formatter.repair(jsonObject, true, false);
+
+		assertEquals(RepairStatusEnum.VALID, result.getStatus());
+		assertSame(jsonObject, result.getValidJson());
+	}
+
+	@Test
+	public void shouldGetInvalidResultMutingExceptions() throws IOException {
+		CustomJSONRepairResult result = formatter.repair("{}", true, true);
+
+		assertEquals(RepairStatusEnum.INVALID, result.getStatus());
+		assertFalse(result.isValid());
+		assertNull(result.getValidJson());
+	}
+
+	@Test
+	public void shouldKeepLegacyStatefulWrapper() throws IOException {
+		JsonElement json = formatter.checkValidityAndFormatObject("{id:267107086801}", true, false);
+		assertSame(json, formatter.getCustomJson().getValidJson());
+	}
+
+	@Test
+	public void shouldRepairFromManyThreadsWithASingleFormatter() throws Exception {
+
+		final CustomJSONFormatterService sharedFormatter = new CustomJSONFormatterService(RepairEngineEnum.TOKENIZER);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		List<Future<CustomJSONRepairResult>> results = new ArrayList<>();
+
+		try {
+			for(int i=0; i<500; i++) {
+				final String invalidJson = "{id:" + i + ",address:{street:Rua " + i + ", casa " + i + ",city:Lavras},payment:[{value:" + i + ",56}]}";
+				results.add(executor.submit(new Callable<CustomJSONRepairResult>() {
+					@Override
+					public CustomJSONRepairResult call() throws Exception {
+						return sharedFormatter.repair(invalidJson, true, false);
+					}
+				}));
+			}
+
+			for(int i=0; i<500; i++) {
+				JsonObject json = results.get(i).get().getValidJson().getAsJsonObject();
+				assertEquals(String.valueOf(i), json.get("id").getAsString());
+				assertEquals("Rua " + i + ", casa " + i, json.getAsJsonObject("address").get("street").getAsString());
+				assertTrue(json.getAsJsonArray("payment").get(0).getAsJsonObject().get("value").getAsString().endsWith(".56"));
+			}
+		}finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@After
+	public void tearDown() {
+		formatter = null;
+	}
+
+}
@@ -0,0 +1,246 @@
+package io.github.mariazevedo88.jfv7.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+import io.github.mariazevedo88.jfv7.model.CustomJSONRepairResult;
+import io.github.mariazevedo88.jfv7.model.enumeration.RepairStatusEnum;
+import io.github.mariazevedo88.jfv7.service.CustomJSONFormatterService;
+import io.github.mariazevedo88.jfv7.service.CustomJSONValidatorFiltersService;
+
+/**
+ * CustomJSONValidatorFiltersService test class
+ *
+ * @author Mariana Azevedo
+ * @since 17/10/2026
+ *
+ */
+public class CustomJSONValidatorFiltersTest {
+
+	private static final String INVALID_JSON = "{totalAmount:326.98,totalFreight:79.99,totalDiscount:0,products:[{link:{id:BLABLABLA-1,rel:sku},quantity:1,price:246.99,freight:79.99,discount:0}, {link:{id:BLABLABLA-2,rel:sku},quantity:1,price:246.99,freight:79.99,discount:0}]}";
+
+	private CustomJSONFormatterService formatter;
+	private CustomJSONValidatorFiltersService validator;
+
+	@Before
+	public void setUp() {
+		formatter = new CustomJSONFormatterService();
+		validator = new CustomJSONValidatorFiltersService();
+	}
+
+	@Test
+	public void shouldAcceptWellFormedJSON() {
+		assertTrue(CustomJSONValidatorFiltersService.isValidJson("{\"id\":267107086801,\"name\":\"Mariana \\\"Mari\\\" \\u00e9\",\"tags\":[true,false,null,-1.5e+3,0],\"address\":{}}"));
+		assertTrue(CustomJSONValidatorFiltersService.isValidJson(" [ {\"a\" : [ [ ] ] } ]\n"));
+	}
+
+	@Test
+	public void shouldAcceptDeeplyNestedJSON() {
+		StringBuilder json = new StringBuilder();
+		for(int i=0; i<200; i++) json.append(i % 2 == 0 ? "{\"a\":" : "[");
+		json.append("1");
+		for(int i=199; i>=0; i--) json.append(i % 2 == 0 ? "}" : "]");
+		assertTrue(CustomJSONValidatorFiltersService.isValidJson(json));
+	}
+
+	@Test
+	public void shouldGetOffsetOfFirstInvalidCharacter() {
+		assertEquals(1, CustomJSONValidatorFiltersService.getInvalidJsonOffset("{id:1}"));
+		assertEquals(7, CustomJSONValidatorFiltersService.getInvalidJsonOffset("{\"id\":01}"));
+		assertEquals(8, CustomJSONValidatorFiltersService.getInvalidJsonOffset("{\"id\":1,}"));
+		assertEquals(9, CustomJSONValidatorFiltersService.getInvalidJsonOffset("{\"id\":\"a\\x\"}"));
+		assertEquals(7, CustomJSONValidatorFiltersService.getInvalidJsonOffset("{\"a\":[1}"));
+		assertEquals(8, CustomJSONValidatorFiltersService.getInvalidJsonOffset("{\"a\":1} x"));
+		assertEquals(7, CustomJSONValidatorFiltersService.getInvalidJsonOffset("{\"a\":[1"));
+		assertEquals(0, CustomJSONValidatorFiltersService.getInvalidJsonOffset("\"a\""));
+	}
+
+	@Test
+	public void shouldNotAcceptEmptyRootAsTheRepair() {
+		assertFalse(CustomJSONValidatorFiltersService.isValidJson("{}"));
+		assertFalse(CustomJSONValidatorFiltersService.isValidJson("[ ]"));
+		assertFalse(CustomJSONValidatorFiltersService.isValidJson(""));
+		assertFalse(CustomJSONValidatorFiltersService.isValidJson(null));
+	}
+
+	@Test
+	public void shouldReturnValidStringAsItIsAndParseOnDemand() throws IOException {
+		String validJson = "{\"id\":267107086801,\"total\":169.89}";
+		CustomJSONRepairResult result = formatter.repair(validJson, true, false);
+
+		assertEquals(RepairStatusEnum.VALID, result.getStatus());
+		assertTrue(result.isValid());
+		assertEquals(validJson, result.getRepairedJson());
+
+		JsonObject json = result.getValidJson().getAsJsonObject();
+		assertEquals(267107086801L, json.get("id").getAsLong());
+		assertTrue(json == result.getValidJson());
+	}
+
+	@Test
+	public void shouldStillRepairInvalidString() throws IOException {
+		CustomJSONRepairResult result = formatter.repair("{\"id\":267107086801,total:169.89}", true, false);
+		assertEquals(RepairStatusEnum.REPAIRED, result.getStatus());
+		assertNull(result.getMessage());
+	}
+
+	@Test
+	public void shouldRemoveManyKeys() {
+		String[] remove = {"products", "totalAmount", "unknownKey"};
+		assertEquals("{totalFreight:79.99,totalDiscount:0,}", validator.removeJSONObjectsFromString(INVALID_JSON, remove));
+	}
+
+	@Test
+	public void shouldRemoveEveryCopyOfTheRemovedPair() {
+		String[] remove = {"price", "discount"};
+		assertEquals("{totalAmount:326.98,totalFreight:79.99,totalDiscount:0,products:[{link:{id:BLABLABLA-1,rel:sku},quantity:1,freight:79.99,}, {link:{id:BLABLABLA-2,rel:sku},quantity:1,freight:79.99,}]}", 
+				validator.removeJSONObjectsFromString(INVALID_JSON, remove));
+	}
+
+	@Test
+	public void shouldRemoveTheKeysOneAfterAnother() {
+		String json = "{totalAmount:326.98,products:[{link:{id:BLABLABLA-1,rel:sku},quantity:1}, {link:{id:BLABLABLA-2,rel:sku},quantity:1}]}";
+
+		//id is removed from the first link before link is looked up, so the second link is kept as it is
+		assertEquals("{totalAmount:326.98,products:[{quantity:1}, {link:{id:BLABLABLA-2,rel:sku},quantity:1}]}",
+				validator.removeJSONObjectsFromString(json, new String[] {"id", "link"}));
+		//the first link is removed with its id, so id is found in the second link
+		assertEquals("{totalAmount:326.98,products:[{quantity:1}, {link:{rel:sku},quantity:1}]}",
+				validator.removeJSONObjectsFromString(json, new String[] {"link", "id"}));
+	}
+
+	@Test
+	public void shouldFilterManyKeysInTheOrderOfTheList() {
+		String[] filter = {"totalDiscount", "link", "totalAmount"};
+		assertEquals("{totalDiscount:0,,link:{id:BLABLABLA-1,rel:sku},,totalAmount:326.98,,}", validator.filterJSONObjectsFromString(INVALID_JSON, filter));
+	}
+
+	@Test
+	public void shouldFilterKeyInsideAnotherFilteredKey() {
+		String[] filter = {"link", "rel"};
+		assertEquals("{link:{id:BLABLABLA-1,rel:sku},,rel:sku,}", validator.filterJSONObjectsFromString(INVALID_JSON, filter));
+	}
+
+	@Test(timeout = 10000)
+	public void shouldFilterAndRemoveManyKeysFromLargeString() {
+		StringBuilder json = new StringBuilder("{");
+		String[] keys = new String[100];
+		for(int i=0; i<20000; i++) {
+			json.append("field").append(i).append(":{value:").append(i).append(",items:[a,b]},");
+			if(i % 200 == 0) keys[i / 200] = "field" + i + ":";
+		}
+		json.append("last:1}");
+
+		String filtered = validator.filterJSONObjectsFromString(json.toString(), keys);
+		String removed = validator.removeJSONObjectsFromString(json.toString(), keys);
+
+		assertTrue(filtered.startsWith("{field0:{value:0,items:[a,b]},,field200:{value:200,"));
+		assertEquals(json.length() - filtered.length() + 102, removed.length());
+	}
+
+	@Test
+	public void shouldFilterKeysWithoutAllocatingPerCharacter() {
+		String[] filter = {"lastA", "lastB"};
+		String small = buildLargeJson(1000);
+		String large = buildLargeJson(16000);
+
+		long smallBytes = measureAllocatedBytes(small, filter, true);
+		long largeBytes = measureAllocatedBytes(large, filter, true);
+
+		//only the key matcher and the output are allocated, and they do not grow with the input
+		assertTrue(largeBytes + " bytes for " + large.length() + " chars", largeBytes < smallBytes + 1024);
+	}
+
+	@Test
+	public void shouldRemoveKeysWithoutAllocatingPerCharacter() {
+		String[] remove = {"lastA", "lastB"};
+		String small = buildLargeJson(1000);
+		String large = buildLargeJson(16000);
+
+		long smallBytes = measureAllocatedBytes(small, remove, false);
+		long largeBytes = measureAllocatedBytes(large, remove, false);
+
+		//the output grows with the input, but by a few bytes per character and not by an object per character
+		assertTrue(largeBytes + " bytes for " + large.length() + " chars", largeBytes < (long) large.length() << 3);
+		assertTrue(largeBytes + " bytes for " + large.length() + " chars", 
+				(double) largeBytes / large.length() <= (double) smallBytes / small.length() * 1.1);
+	}
+
+	private static String buildLargeJson(int fields) {
+		StringBuilder json = new StringBuilder("{");
+		for(int i=0; i<fields; i++) {
+			json.append("field").append(i).append(":{value:").append(i).append(",items:[a,b]},");
+		}
+		return json.append("lastA:1,lastB:{c:2}}").toString();
+	}
+
+	private long measureAllocatedBytes(final String json, final String[] keys, final boolean filter) {
+		return CustomJSONAllocationMeter.measureAllocatedBytes(new Runnable() {
+			@Override
+			public void run() {
+				String result = filter ? validator.filterJSONObjectsFromString(json, keys) : validator.removeJSONObjectsFromString(json, keys);
+				assertFalse(result.isEmpty());
+			}
+		});
+	}
+
+	@Test
+	public void shouldFilterNestedPathsInsteadOfFirstKey() {
+		String json = "{payment:[{id:CREDIT_CARD,value:10,56},{id:VOUCHER,value:70.53}],id:267133121501,person:{name:Juliano, Thais Ou Lourdes,id:9}}";
+		String[] paths = {"id", "person.name", "payment[*].value", "payment[1].id", "person.address.city"};
+
+		Map<String, List<String>> values = validator.filterJSONPathsFromString(json, paths);
+
+		assertEquals(Arrays.asList("267133121501"), values.get("id"));
+		assertEquals(Arrays.asList("Juliano, Thais Ou Lourdes"), values.get("person.name"));
+		assertEquals(Arrays.asList("10,56", "70.53"), values.get("payment[*].value"));
+		assertEquals(Arrays.asList("VOUCHER"), values.get("payment[1].id"));
+		assertEquals(Collections.emptyList(), values.get("person.address.city"));
+		assertEquals(Arrays.asList(paths), Arrays.asList(values.keySet().toArray()));
+	}
+
+	@Test
+	public void shouldFilterObjectAndFieldInsideIt() {
+		String json = "{deliveryAddress:{street:Rua Au00e7au00ed,,number:451,reference:Garagem pequena,,neighborhood:Morada do Sol},\"tags\":[\"a,}\",b]}";
+		Map<String, List<String>> values = validator.filterJSONPathsFromString(json, new String[] {"deliveryAddress", "deliveryAddress.reference", "tags[*]"});
+
+		assertEquals(Arrays.asList("{street:Rua Au00e7au00ed,,number:451,reference:Garagem pequena,,neighborhood:Morada do Sol}"), values.get("deliveryAddress"));
+		assertEquals(Arrays.asList("Garagem pequena"), values.get("deliveryAddress.reference"));
+		assertEquals(Arrays.asList("\"a,}\"", "b"), values.get("tags[*]"));
+	}
+
+	@Test
+	public void shouldRemoveNestedPaths() throws IOException {
+		String json = "{id:267133121501,person:{name:Juliano, Thais Ou Lourdes,id:9},payment:[{id:CREDIT_CARD,value:10,56},{id:VOUCHER,value:70.53}]}";
+		String jsonFormatted = validator.removeJSONPathsFromString(json, new String[] {"person.id", "payment[*].value", "payment[0]"});
+
+		assertEquals("{id:267133121501,person:{name:Juliano, Thais Ou Lourdes,},payment:[{id:VOUCHER,}]}", jsonFormatted);
+		assertTrue(formatter.checkValidityAndFormatObject(jsonFormatted, true, false).isJsonObject());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void shouldThrowsIllegalArgumentExceptionFromInvalidPath() {
+		validator.filterJSONPathsFromString("{id:1}", new String[] {"payment[x].value"});
+	}
+
+	@After
+	public void tearDown() {
+		formatter = null;
+		validator = null;
+	}
+
+}